@@ -0,0 +1,101 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.jmh;
+
+import java.io.InputStream;
+import org.infinispan.commons.marshall.StreamingMarshaller;
+import org.infinispan.configuration.global.GlobalConfigurationBuilder;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.protostream.FileDescriptorSource;
+import org.infinispan.protostream.ProtobufUtil;
+import org.infinispan.protostream.SerializationContext;
+import org.infinispan.protostream.config.Configuration;
+import org.yardstickframework.infinispan.model.PayloadValueExternalizer;
+import org.yardstickframework.infinispan.model.PersonExternalizer;
+import org.yardstickframework.infinispan.model.SampleValueExternalizer;
+import org.yardstickframework.infinispan.protobuf.PersonMarshaller;
+import org.yardstickframework.infinispan.protobuf.PersonProtobuf;
+
+/**
+ * Creates marshallers configured the same way as on benchmark nodes.
+ */
+final class Marshallers {
+    /** */
+    private Marshallers() {
+        // No-op.
+    }
+
+    /**
+     * Starts local cache manager, its marshaller is used by embedded caches.
+     *
+     * @param advancedExternalizers Whether to register externalizers of model classes.
+     * @return Cache manager.
+     */
+    static DefaultCacheManager startCacheManager(boolean advancedExternalizers) {
+        GlobalConfigurationBuilder builder = new GlobalConfigurationBuilder();
+
+        builder.globalJmxStatistics().allowDuplicateDomains(true);
+
+        if (advancedExternalizers)
+            builder.serialization().addAdvancedExternalizer(new SampleValueExternalizer(), new PayloadValueExternalizer(),
+                new PersonExternalizer());
+
+        return new DefaultCacheManager(builder.build());
+    }
+
+    /**
+     * @param cacheMgr Cache manager.
+     * @return Marshaller of embedded caches.
+     */
+    static StreamingMarshaller cacheMarshaller(DefaultCacheManager cacheMgr) {
+        return cacheMgr.getCache().getAdvancedCache().getComponentRegistry().getCacheMarshaller();
+    }
+
+    /**
+     * @return ProtoStream context with {@link PersonMarshaller} registered, as used by HotRod client.
+     * @throws Exception If failed.
+     */
+    static SerializationContext protoStreamContext() throws Exception {
+        SerializationContext ctx = ProtobufUtil.newSerializationContext(new Configuration.Builder().build());
+
+        FileDescriptorSource fileDescSrc = new FileDescriptorSource();
+
+        try (InputStream is = PersonProtobuf.class.getResourceAsStream("person.protobin")) {
+            fileDescSrc.addProtoFile("person", is);
+        }
+
+        ctx.registerProtoFiles(fileDescSrc);
+
+        ctx.registerMarshaller(new PersonMarshaller());
+
+        return ctx;
+    }
+
+    /**
+     * @param len Length.
+     * @param prefix Prefix.
+     * @return String of given length.
+     */
+    static String name(String prefix, int len) {
+        StringBuilder sb = new StringBuilder(len).append(prefix);
+
+        while (sb.length() < len)
+            sb.append((char)('a' + sb.length() % 26));
+
+        sb.setLength(len);
+
+        return sb.toString();
+    }
+}
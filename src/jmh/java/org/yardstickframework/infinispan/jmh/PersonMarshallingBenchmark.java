@@ -0,0 +1,209 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.infinispan.commons.marshall.StreamingMarshaller;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.protostream.ProtobufUtil;
+import org.infinispan.protostream.SerializationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.yardstickframework.infinispan.model.Person;
+import org.yardstickframework.infinispan.protobuf.PersonProtobuf;
+
+/**
+ * Encode and decode throughput of person in every format used by benchmarks:
+ * <ul>
+ *     <li>{@code EXTERNALIZABLE} - {@link Person} marshalled by embedded cache marshaller.</li>
+ *     <li>{@code ADVANCED_EXTERNALIZER} - {@link Person} marshalled by embedded cache marshaller
+ *     with registered {@code PersonExternalizer}.</li>
+ *     <li>{@code PROTOBUF} - generated {@link PersonProtobuf.Person} code.</li>
+ *     <li>{@code PROTOSTREAM} - {@link PersonProtobuf.Person} marshalled by {@code PersonMarshaller}
+ *     as done by HotRod client.</li>
+ * </ul>
+ * Names have {@code nameLength} characters. Encoded size is reported as {@code encodedBytes} secondary result,
+ * run with {@code -prof gc} to get allocation per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class PersonMarshallingBenchmark {
+    /** */
+    @Param({"EXTERNALIZABLE", "ADVANCED_EXTERNALIZER", "PROTOBUF", "PROTOSTREAM"})
+    public String format;
+
+    /** */
+    @Param({"8", "64", "512"})
+    public int nameLength;
+
+    /** Cache manager, {@code null} for protobuf formats. */
+    private DefaultCacheManager cacheMgr;
+
+    /** Codec of selected format, resolved once on setup to keep format selection out of measured methods. */
+    private Codec codec;
+
+    /** Person to encode. */
+    private Object person;
+
+    /** */
+    private byte[] bytes;
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String firstName = Marshallers.name("first", nameLength);
+        String lastName = Marshallers.name("last", nameLength);
+
+        switch (format) {
+            case "EXTERNALIZABLE":
+            case "ADVANCED_EXTERNALIZER":
+                cacheMgr = Marshallers.startCacheManager(format.equals("ADVANCED_EXTERNALIZER"));
+
+                final StreamingMarshaller marsh = Marshallers.cacheMarshaller(cacheMgr);
+
+                codec = new Codec() {
+                    @Override public byte[] encode(Object obj) throws Exception {
+                        return marsh.objectToByteBuffer(obj);
+                    }
+
+                    @Override public Object decode(byte[] bytes) throws Exception {
+                        return marsh.objectFromByteBuffer(bytes);
+                    }
+                };
+
+                person = new Person(1, 1, firstName, lastName, 1000);
+
+                break;
+
+            case "PROTOBUF":
+                codec = new Codec() {
+                    @Override public byte[] encode(Object obj) {
+                        return ((PersonProtobuf.Person)obj).toByteArray();
+                    }
+
+                    @Override public Object decode(byte[] bytes) throws Exception {
+                        return PersonProtobuf.Person.parseFrom(bytes);
+                    }
+                };
+
+                person = protobufPerson(firstName, lastName);
+
+                break;
+
+            case "PROTOSTREAM":
+                final SerializationContext protoCtx = Marshallers.protoStreamContext();
+
+                codec = new Codec() {
+                    @Override public byte[] encode(Object obj) throws Exception {
+                        return ProtobufUtil.toWrappedByteArray(protoCtx, obj);
+                    }
+
+                    @Override public Object decode(byte[] bytes) throws Exception {
+                        return ProtobufUtil.fromWrappedByteArray(protoCtx, bytes);
+                    }
+                };
+
+                person = protobufPerson(firstName, lastName);
+
+                break;
+
+            default:
+                throw new IllegalArgumentException("Unknown format: " + format);
+        }
+
+        bytes = codec.encode(person);
+    }
+
+    /**
+     * @param size Encoded size counter.
+     */
+    @Setup(Level.Iteration)
+    public void encodedSize(EncodedSize size) {
+        size.encodedBytes = bytes.length;
+    }
+
+    /** */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (cacheMgr != null)
+            cacheMgr.stop();
+    }
+
+    /**
+     * @param size Encoded size counter, set on setup.
+     * @return Encoded person.
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    public byte[] encode(EncodedSize size) throws Exception {
+        return codec.encode(person);
+    }
+
+    /**
+     * @param size Encoded size counter, set on setup.
+     * @return Decoded person.
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    public Object decode(EncodedSize size) throws Exception {
+        return codec.decode(bytes);
+    }
+
+    /**
+     * @param firstName First name.
+     * @param lastName Last name.
+     * @return Generated protobuf person.
+     */
+    private static PersonProtobuf.Person protobufPerson(String firstName, String lastName) {
+        return PersonProtobuf.Person.newBuilder().setId(1).setOrdId(1).setFirstName(firstName).
+            setLastName(lastName).setSalary(1000).build();
+    }
+
+    /**
+     * Encoding and decoding of person in one format.
+     */
+    private interface Codec {
+        /**
+         * @param obj Person.
+         * @return Encoded person.
+         * @throws Exception If failed.
+         */
+        byte[] encode(Object obj) throws Exception;
+
+        /**
+         * @param bytes Encoded person.
+         * @return Decoded person.
+         * @throws Exception If failed.
+         */
+        Object decode(byte[] bytes) throws Exception;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.jmh;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.infinispan.commons.marshall.StreamingMarshaller;
+import org.infinispan.manager.DefaultCacheManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.yardstickframework.infinispan.model.PayloadValue;
+import org.yardstickframework.infinispan.model.SampleValue;
+
+/**
+ * Encode and decode throughput of {@link SampleValue}, or {@link PayloadValue} with {@code payloadSize} bytes
+ * payload, marshalled by embedded cache marshaller as {@code Externalizable} or with registered externalizers.
+ * Encoded size is reported as {@code encodedBytes} secondary result, run with {@code -prof gc} to get allocation
+ * per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SampleValueMarshallingBenchmark {
+    /** */
+    @Param({"EXTERNALIZABLE", "ADVANCED_EXTERNALIZER"})
+    public String format;
+
+    /** */
+    @Param({"0", "128", "1024", "8192"})
+    public int payloadSize;
+
+    /** */
+    private DefaultCacheManager cacheMgr;
+
+    /** */
+    private StreamingMarshaller marsh;
+
+    /** */
+    private SampleValue val;
+
+    /** */
+    private byte[] bytes;
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        cacheMgr = Marshallers.startCacheManager(format.equals("ADVANCED_EXTERNALIZER"));
+
+        marsh = Marshallers.cacheMarshaller(cacheMgr);
+
+        if (payloadSize > 0) {
+            byte[] payload = new byte[payloadSize];
+
+            ThreadLocalRandom.current().nextBytes(payload);
+
+            val = new PayloadValue(1, payload);
+        }
+        else
+            val = new SampleValue(1);
+
+        bytes = marsh.objectToByteBuffer(val);
+    }
+
+    /**
+     * @param size Encoded size counter.
+     */
+    @Setup(Level.Iteration)
+    public void encodedSize(EncodedSize size) {
+        size.encodedBytes = bytes.length;
+    }
+
+    /** */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cacheMgr.stop();
+    }
+
+    /**
+     * @param size Encoded size counter, set on setup.
+     * @return Encoded value.
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    public byte[] encode(EncodedSize size) throws Exception {
+        return marsh.objectToByteBuffer(val);
+    }
+
+    /**
+     * @param size Encoded size counter, set on setup.
+     * @return Decoded value.
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    public Object decode(EncodedSize size) throws Exception {
+        return marsh.objectFromByteBuffer(bytes);
+    }
+}
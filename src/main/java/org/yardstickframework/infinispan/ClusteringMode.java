@@ -0,0 +1,35 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+/**
+ * Clustering mode of benchmark caches, synchronous or asynchronous variant is selected by {@code -as} option.
+ */
+public enum ClusteringMode {
+    /** Distributed, {@code -b} backups of every key. */
+    DIST,
+
+    /** Distributed with L1 cache of remotely read entries. */
+    DIST_L1,
+
+    /** Replicated to all nodes. */
+    REPL,
+
+    /** Invalidation of entries on other nodes. */
+    INVALIDATION,
+
+    /** Local, not clustered. */
+    LOCAL
+}
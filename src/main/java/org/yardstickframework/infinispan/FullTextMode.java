@@ -0,0 +1,32 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+/**
+ * Type of full-text queries on person names.
+ */
+public enum FullTextMode {
+    /** Term query on last name. */
+    TERM,
+
+    /** Prefix wildcard query on last name. */
+    WILDCARD,
+
+    /** Phrase query on full name. */
+    PHRASE,
+
+    /** Fuzzy query on misspelled last name. */
+    FUZZY
+}
@@ -0,0 +1,32 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+/**
+ * Storage of Lucene indexes of indexed caches.
+ */
+public enum IndexDirectory {
+    /** Directory provider set in Infinispan configuration file. */
+    DEFAULT,
+
+    /** Heap memory. */
+    RAM,
+
+    /** Local file system. */
+    FILESYSTEM,
+
+    /** Infinispan caches, index is shared by all nodes and updated through Infinispan index manager. */
+    INFINISPAN
+}
@@ -0,0 +1,83 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import org.yardstickframework.BenchmarkConfiguration;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Abstract class for Infinispan benchmarks that pipeline asynchronous operations. Every driver thread
+ * keeps at most {@link InfinispanBenchmarkArguments#asyncWindow()} operations in flight and waits for
+ * the oldest one to complete before issuing a new operation once the window is full.
+ */
+public abstract class InfinispanAbstractAsyncBenchmark extends InfinispanAbstractBenchmark {
+    /** Windows of all driver threads, used to drain outstanding operations on tear down. */
+    private final Queue<ArrayDeque<Future<?>>> windows = new ConcurrentLinkedQueue<>();
+
+    /** */
+    private final ThreadLocal<ArrayDeque<Future<?>>> window = new ThreadLocal<ArrayDeque<Future<?>>>() {
+        @Override protected ArrayDeque<Future<?>> initialValue() {
+            ArrayDeque<Future<?>> w = new ArrayDeque<>(args.asyncWindow());
+
+            windows.add(w);
+
+            return w;
+        }
+    };
+
+    /** {@inheritDoc} */
+    @Override public void setUp(BenchmarkConfiguration cfg) throws Exception {
+        super.setUp(cfg);
+
+        if (args.asyncWindow() < 1)
+            throw new IllegalArgumentException("Async window must be positive: " + args.asyncWindow());
+
+        println(cfg, "Async window per thread: " + args.asyncWindow());
+    }
+
+    /**
+     * Adds operation future to the current thread window, blocking on the oldest outstanding
+     * operation if the window is full.
+     *
+     * @param fut Operation future.
+     * @throws Exception If the completed operation failed.
+     */
+    protected void submit(Future<?> fut) throws Exception {
+        ArrayDeque<Future<?>> w = window.get();
+
+        while (w.size() >= args.asyncWindow())
+            w.poll().get();
+
+        w.add(fut);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void tearDown() throws Exception {
+        try {
+            for (ArrayDeque<Future<?>> w : windows) {
+                for (Future<?> fut = w.poll(); fut != null; fut = w.poll())
+                    fut.get();
+            }
+        }
+        finally {
+            super.tearDown();
+        }
+    }
+}
@@ -14,24 +14,44 @@
 
 package org.yardstickframework.infinispan;
 
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import org.infinispan.Cache;
 import org.infinispan.commons.api.BasicCache;
+import org.infinispan.commons.marshall.StreamingMarshaller;
+import org.infinispan.distribution.DistributionManager;
 import org.infinispan.manager.EmbeddedCacheManager;
-import org.infinispan.notifications.Listenable;
 import org.infinispan.notifications.Listener;
-import org.infinispan.notifications.cachelistener.annotation.TopologyChanged;
-import org.infinispan.notifications.cachelistener.event.TopologyChangedEvent;
+import org.infinispan.notifications.cachemanagerlistener.annotation.ViewChanged;
+import org.infinispan.notifications.cachemanagerlistener.event.ViewChangedEvent;
+import org.infinispan.remoting.transport.Address;
 import org.yardstickframework.BenchmarkConfiguration;
 import org.yardstickframework.BenchmarkDriverAdapter;
 import org.yardstickframework.BenchmarkUtils;
+import org.yardstickframework.infinispan.keys.KeyGenerator;
+import org.yardstickframework.infinispan.keys.KeyGeneratorFactory;
+import org.yardstickframework.infinispan.model.PayloadValue;
+import org.yardstickframework.infinispan.model.Person;
+import org.yardstickframework.infinispan.model.SampleValue;
+import org.yardstickframework.infinispan.probes.Phase;
+import org.yardstickframework.infinispan.probes.PhaseLatencyRecorder;
 
 import static org.yardstickframework.BenchmarkUtils.jcommander;
 import static org.yardstickframework.BenchmarkUtils.println;
 
 /**
  * Abstract class for Infinispan benchmarks.
+ * <p>
+ * If {@code -tr} option is set, operations are run in open-loop mode: every driver thread schedules
+ * operations at fixed rate and latency of every operation is measured from its intended start time,
+ * so that queueing caused by cluster stalls is not hidden (coordinated omission). This latency is reported
+ * as {@link Phase#SCHEDULED} by {@code PhaseLatencyProbe}, latency reported by standard Yardstick probes
+ * includes pacing waits in this mode.
  */
 public abstract class InfinispanAbstractBenchmark extends BenchmarkDriverAdapter {
     /** */
@@ -52,12 +72,62 @@ public abstract class InfinispanAbstractBenchmark extends BenchmarkDriverAdapter
     /** */
     private final CountDownLatch nodesStartedLatch = new CountDownLatch(1);
 
+    /** Latencies of operation phases, recorded only if {@code PhaseLatencyProbe} is attached. */
+    protected final PhaseLatencyRecorder phases = new PhaseLatencyRecorder();
+
+    /** */
+    private KeyGeneratorFactory keyGenFactory;
+
+    /** Payload template copied into every value, {@code null} if values have no payload. */
+    private byte[] payload;
+
+    /** Interval between operations of a single thread in nanoseconds, {@code 0} in closed-loop mode. */
+    private long period;
+
+    /** Intended start time of the next operation of a thread in open-loop mode. */
+    private final ThreadLocal<long[]> nextStart = new ThreadLocal<long[]>() {
+        @Override protected long[] initialValue() {
+            return new long[1];
+        }
+    };
+
+    /** Distribution manager used to colocate batch keys, {@code null} if key affinity is disabled. */
+    private DistributionManager affinityDm;
+
+    /** Per-thread key generators. */
+    private final ThreadLocal<KeyGenerator> keyGen = new ThreadLocal<KeyGenerator>() {
+        @Override protected KeyGenerator initialValue() {
+            return keyGenFactory.create();
+        }
+    };
+
     /** {@inheritDoc} */
     @Override public void setUp(BenchmarkConfiguration cfg) throws Exception {
         super.setUp(cfg);
 
         jcommander(cfg.commandLineArguments(), args, "<infinispan-driver>");
 
+        checkArguments();
+
+        keyGenFactory = new KeyGeneratorFactory(args);
+
+        println(cfg, "Key distribution: " + args.keyDistribution());
+
+        if (args.valueSize() > 0) {
+            payload = new byte[args.valueSize()];
+
+            ThreadLocalRandom.current().nextBytes(payload);
+
+            println(cfg, "Value payload size: " + args.valueSize() + " bytes");
+        }
+
+        if (args.targetRate() > 0) {
+            period = Math.max(TimeUnit.SECONDS.toNanos(1) * cfg.threads() / args.targetRate(), 1);
+
+            println(cfg, "Fixed-rate mode [targetRate=" + args.targetRate() + " ops/sec, threads=" + cfg.threads() +
+                ", threadInterval=" + period + "ns]");
+        }
+
         node = new InfinispanNode(args.clientMode(), cacheName().equals("queryCache"));
 
         node.start(cfg);
@@ -77,15 +147,68 @@ public abstract class InfinispanAbstractBenchmark extends BenchmarkDriverAdapter
 
         assert cache != null;
 
-        if (!args.clientMode())
+        if (!args.clientMode()) {
             addListener();
+
+            printMarshalledSizes();
+        }
+
+        if (args.keyAffinity()) {
+            if (args.clientMode())
+                println(cfg, "[WARNING] Key affinity is not supported in client mode, batch keys are not colocated.");
+            else {
+                affinityDm = ((Cache)cache).getAdvancedCache().getDistributionManager();
+
+                if (affinityDm == null)
+                    println(cfg, "[WARNING] Key affinity requires distributed cache, batch keys are not colocated.");
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean test(Map<Object, Object> ctx) throws Exception {
+        if (period == 0)
+            return test0(ctx);
+
+        long[] next = nextStart.get();
+
+        long intended = next[0] == 0 ? System.nanoTime() : next[0];
+
+        next[0] = intended + period;
+
+        for (long now = System.nanoTime(); now < intended; now = System.nanoTime())
+            LockSupport.parkNanos(intended - now);
+
+        boolean res = test0(ctx);
+
+        phases.record(Phase.SCHEDULED, intended);
+
+        return res;
     }
 
+    /**
+     * Executes benchmarked operation.
+     *
+     * @param ctx Context.
+     * @return {@code True} if benchmark should continue.
+     * @throws Exception If failed.
+     */
+    protected abstract boolean test0(Map<Object, Object> ctx) throws Exception;
+
     /**
      * @return Cache name.
      */
     protected abstract String cacheName();
 
+    /**
+     * Validates parsed arguments before node is started and data is loaded.
+     *
+     * @throws Exception If arguments are not supported by benchmark.
+     */
+    protected void checkArguments() throws Exception {
+        // No-op.
+    }
+
     /** {@inheritDoc} */
     @Override public void tearDown() throws Exception {
         node.stop();
@@ -99,6 +222,45 @@ public abstract class InfinispanAbstractBenchmark extends BenchmarkDriverAdapter
                 getClass().getSimpleName() + args.description() + cfg.defaultDescription() : desc;
     }
 
+    /**
+     * @return Infinispan node started by this benchmark.
+     */
+    protected InfinispanNode node() {
+        return node;
+    }
+
+    /**
+     * @param name Cache name.
+     * @return Cache with given name.
+     */
+    protected BasicCache<Object, Object> cache(String name) {
+        return node.cacheContainer().getCache(name);
+    }
+
+    /**
+     * Prints sizes of marshalled sample values, which depend on {@code -ae} option.
+     */
+    private void printMarshalledSizes() {
+        try {
+            StreamingMarshaller marsh = ((Cache<?, ?>)cache).getAdvancedCache().getComponentRegistry().
+                getCacheMarshaller();
+
+            println(cfg, "Marshalled value sizes [advancedExternalizers=" + args.advancedExternalizers() +
+                ", SampleValue=" + marsh.objectToByteBuffer(sampleValue(0)).length +
+                ", Person=" + marsh.objectToByteBuffer(new Person(0, 0, "firstName0", "lastName0", 0)).length + ']');
+        }
+        catch (Exception e) {
+            println(cfg, "Failed to marshal sample values: " + e);
+        }
+    }
+
+    /**
+     * @return Phase latency recorder.
+     */
+    public PhaseLatencyRecorder phaseLatencyRecorder() {
+        return phases;
+    }
+
     /** {@inheritDoc} */
     @Override public String usage() {
         return BenchmarkUtils.usage(args);
@@ -108,9 +270,12 @@ public abstract class InfinispanAbstractBenchmark extends BenchmarkDriverAdapter
      * @throws Exception If failed.
      */
     private void addListener() throws Exception {
-        ((Listenable)cache).addListener(new TopologyListener());
+        EmbeddedCacheManager cacheMgr = (EmbeddedCacheManager)node.cacheContainer();
+
+        // View changes are fired by cache manager for any cache mode, while local caches never see topology changes.
+        cacheMgr.addListener(new ViewListener(cacheMgr));
 
-        if (!nodesStarted((EmbeddedCacheManager)node.cacheContainer())) {
+        if (!nodesStarted(cacheMgr)) {
             println(cfg, "Waiting for " + (args.nodes() - 1) + " nodes to start...");
 
             nodesStartedLatch.await();
@@ -129,27 +294,42 @@ public abstract class InfinispanAbstractBenchmark extends BenchmarkDriverAdapter
 
     /** */
     @Listener
-    private class TopologyListener {
+    public class ViewListener {
+        /** */
+        private final EmbeddedCacheManager cacheMgr;
+
+        /**
+         * @param cacheMgr Cache manager.
+         */
+        ViewListener(EmbeddedCacheManager cacheMgr) {
+            this.cacheMgr = cacheMgr;
+        }
+
         /**
          * @param evt Event.
          */
-        @TopologyChanged
-        public void onEvent(TopologyChangedEvent evt) {
-            if (!evt.isPre()) {
-                println(cfg, "Topology changed [nodes=" + evt.getCache().getCacheManager().getMembers().size() + "]");
+        @ViewChanged
+        public void onEvent(ViewChangedEvent evt) {
+            println(cfg, "View changed [nodes=" + evt.getNewMembers().size() + "]");
 
-                if (nodesStarted(evt.getCache().getCacheManager()))
-                    nodesStartedLatch.countDown();
-            }
+            if (nodesStarted(cacheMgr))
+                nodesStartedLatch.countDown();
         }
     }
 
     /**
+     * Generates next key using configured key distribution. Keys are generated over {@code -r} range
+     * and scaled down proportionally if smaller range is requested.
+     *
      * @param max Key range.
      * @return Next key.
      */
     protected int nextRandom(int max) {
-        return ThreadLocalRandom.current().nextInt(max);
+        int key = keyGen.get().next();
+
+        int range = keyGenFactory.range();
+
+        return max == range ? key : (int)((long)key * max / range);
     }
 
     /**
@@ -158,7 +338,74 @@ public abstract class InfinispanAbstractBenchmark extends BenchmarkDriverAdapter
      * @return Next key.
      */
     protected int nextRandom(int min, int max) {
-        return ThreadLocalRandom.current().nextInt(max - min) + min;
+        return nextRandom(max - min) + min;
+    }
+
+    /**
+     * @return Number of persons in salary window selected by {@code -qs} fraction of key range.
+     */
+    protected int salaryWindow() {
+        return Math.max((int)(args.range() * args.querySelectivity()), 1);
+    }
+
+    /**
+     * Generates random salary range of {@link #salaryWindow()} persons, preloaded person with key {@code k}
+     * has salary {@code k * 1000}.
+     *
+     * @return Minimum and maximum salary, inclusive.
+     */
+    protected double[] nextSalaryRange() {
+        int window = salaryWindow();
+
+        double minSalary = nextRandom(Math.max(args.range() - window, 1)) * 1000.0;
+
+        return new double[] {minSalary, minSalary + window * 1000.0};
+    }
+
+    /**
+     * Generates batch of {@link InfinispanBenchmarkArguments#batch()} keys mapped to themselves. If key affinity
+     * is enabled, all keys of the batch have the same primary owner, so that batch operation goes to a single
+     * node instead of fanning out to all of them.
+     *
+     * @return Batch.
+     */
+    protected SortedMap<Integer, Integer> nextBatch() {
+        SortedMap<Integer, Integer> vals = new TreeMap<>();
+
+        Address owner = null;
+
+        for (int i = 0; vals.size() < args.batch(); i++) {
+            int key = nextRandom(args.range());
+
+            if (affinityDm != null) {
+                Address keyOwner = affinityDm.getConsistentHash().locatePrimaryOwner(key);
+
+                if (owner == null)
+                    owner = keyOwner;
+                else if (!owner.equals(keyOwner)) {
+                    if (i > args.batch() * 1_000)
+                        throw new IllegalStateException("Failed to generate colocated batch, key range is too " +
+                            "small [range=" + args.range() + ", batch=" + args.batch() + ']');
+
+                    continue;
+                }
+            }
+
+            vals.put(key, key);
+        }
+
+        return vals;
+    }
+
+    /**
+     * Creates value of configured size. Every value gets its own copy of the payload, so that heap
+     * footprint grows with the number of entries as it would with real data.
+     *
+     * @param key Key.
+     * @return Value.
+     */
+    protected SampleValue sampleValue(int key) {
+        return payload == null ? new SampleValue(key) : new PayloadValue(key, payload.clone());
     }
 
     /**
@@ -15,8 +15,13 @@
 package org.yardstickframework.infinispan;
 
 import com.beust.jcommander.Parameter;
+import org.infinispan.client.hotrod.configuration.NearCacheMode;
+import org.infinispan.eviction.EvictionStrategy;
+import org.infinispan.eviction.EvictionType;
 import org.infinispan.transaction.LockingMode;
+import org.infinispan.transaction.TransactionProtocol;
 import org.infinispan.util.concurrent.IsolationLevel;
+import org.yardstickframework.infinispan.keys.KeyDistribution;
 
 /**
  * Input arguments for Infinispan benchmarks.
@@ -59,6 +64,201 @@ public class InfinispanBenchmarkArguments {
     @Parameter(names = {"-txi", "--txIsolation"}, description = "Transaction isolation")
     private IsolationLevel txIsolation = IsolationLevel.REPEATABLE_READ;
 
+    /** */
+    @Parameter(names = {"-txpr", "--txProtocol"}, description = "Transaction protocol")
+    private TransactionProtocol txProtocol = TransactionProtocol.DEFAULT;
+
+    /** */
+    @Parameter(names = {"-wsc", "--writeSkewCheck"}, description = "Write skew check for optimistic transactions")
+    private boolean writeSkewCheck;
+
+    /** */
+    @Parameter(names = {"-aw", "--asyncWindow"}, description = "Max number of outstanding async operations per thread")
+    private int asyncWindow = 16;
+
+    /** */
+    @Parameter(names = {"-kd", "--keyDistribution"}, description = "Key distribution")
+    private KeyDistribution keyDist = KeyDistribution.UNIFORM;
+
+    /** */
+    @Parameter(names = {"-zt", "--zipfianTheta"}, description = "Zipfian distribution skew")
+    private double zipfianTheta = 0.99;
+
+    /** */
+    @Parameter(names = {"-hsf", "--hotSetFraction"}, description = "Fraction of keys in hot set")
+    private double hotSetFraction = 0.01;
+
+    /** */
+    @Parameter(names = {"-hof", "--hotOpFraction"}, description = "Fraction of operations going to hot set")
+    private double hotOpFraction = 0.5;
+
+    /** */
+    @Parameter(names = {"-plt", "--preloadThreads"}, description = "Number of threads used to preload data")
+    private int preloadThreads = Runtime.getRuntime().availableProcessors();
+
+    /** */
+    @Parameter(names = {"-plbs", "--preloadBatchSize"}, description = "Batch size used to preload data")
+    private int preloadBatch = 1_000;
+
+    /** */
+    @Parameter(names = {"-ncm", "--nearCacheMode"}, description = "HotRod client near cache mode")
+    private NearCacheMode nearCacheMode = NearCacheMode.DISABLED;
+
+    /** */
+    @Parameter(names = {"-ncme", "--nearCacheMaxEntries"}, description = "HotRod client near cache max entries")
+    private int nearCacheMaxEntries = -1;
+
+    /** */
+    @Parameter(names = {"-nchl", "--nearCacheHitLatency"},
+        description = "Max get latency in microseconds counted as near cache hit")
+    private long nearCacheHitLatency = 100;
+
+    /** */
+    @Parameter(names = {"-wp", "--writePercent"},
+        description = "Percentage of write operations in read-mostly benchmarks")
+    private int writePercent = 10;
+
+    /** */
+    @Parameter(names = {"-orgs", "--organizations"}, description = "Number of organizations persons belong to")
+    private int orgs = 100;
+
+    /** */
+    @Parameter(names = {"-qs", "--querySelectivity"},
+        description = "Fraction of persons matched by aggregation queries")
+    private double qrySelectivity = 0.01;
+
+    /** */
+    @Parameter(names = {"-sm", "--streamMode"}, description = "Aggregation mode")
+    private StreamMode streamMode = StreamMode.PARALLEL;
+
+    /** */
+    @Parameter(names = {"-vs", "--valueSize"}, description = "Size of value payload in bytes")
+    private int valSize;
+
+    /** */
+    @Parameter(names = {"-sab", "--storeAsBinary"}, description = "Store keys and values in marshalled form")
+    private boolean storeAsBinary;
+
+    /** */
+    @Parameter(names = {"-ps", "--persistence"}, description = "Cache store")
+    private PersistenceMode persistence = PersistenceMode.NONE;
+
+    /** */
+    @Parameter(names = {"-psd", "--persistenceDir"}, description = "Cache store and filesystem index directory")
+    private String persistenceDir = System.getProperty("java.io.tmpdir") + "/yardstick-infinispan";
+
+    /** */
+    @Parameter(names = {"-wb", "--writeBehind"}, description = "Write-behind cache store")
+    private boolean writeBehind;
+
+    /** */
+    @Parameter(names = {"-wbq", "--writeBehindQueueSize"}, description = "Write-behind modification queue size")
+    private int writeBehindQueueSize = 1024;
+
+    /** */
+    @Parameter(names = {"-pas", "--passivation"}, description = "Passivation")
+    private boolean passivation;
+
+    /** */
+    @Parameter(names = {"-es", "--evictionSize"}, description = "Max number of entries or bytes before eviction")
+    private long evictionSize;
+
+    /** */
+    @Parameter(names = {"-et", "--evictionType"}, description = "Eviction type")
+    private EvictionType evictionType = EvictionType.COUNT;
+
+    /** */
+    @Parameter(names = {"-est", "--evictionStrategy"}, description = "Eviction strategy")
+    private EvictionStrategy evictionStrategy = EvictionStrategy.LRU;
+
+    /** */
+    @Parameter(names = {"-tr", "--targetRate"}, description = "Target rate of operations per second for every driver")
+    private long targetRate;
+
+    /** */
+    @Parameter(names = {"-rmw", "--rmwMode"}, description = "Read-modify-write mode")
+    private ReadModifyWriteMode rmwMode = ReadModifyWriteMode.FUNCTIONAL;
+
+    /** */
+    @Parameter(names = {"-hk", "--hotKeys"}, description = "Number of contended keys")
+    private int hotKeys = 16;
+
+    /** */
+    @Parameter(names = {"-ka", "--keyAffinity"}, description = "Colocate keys of every batch on one primary owner")
+    private boolean keyAffinity;
+
+    /** */
+    @Parameter(names = {"-qm", "--queryMode"}, description = "Query results shape")
+    private QueryMode qryMode = QueryMode.ENTITY;
+
+    /** */
+    @Parameter(names = {"-pgs", "--pageSize"}, description = "Query page size")
+    private int pageSize = 10;
+
+    /** */
+    @Parameter(names = {"-ftm", "--fullTextMode"}, description = "Full-text query type")
+    private FullTextMode fullTextMode = FullTextMode.TERM;
+
+    /** */
+    @Parameter(names = {"-nc", "--nameCorpus"}, description = "Path to name corpus file")
+    private String nameCorpus;
+
+    /** */
+    @Parameter(names = {"-idx", "--indexDirectory"}, description = "Index storage")
+    private IndexDirectory idxDir = IndexDirectory.DEFAULT;
+
+    /** */
+    @Parameter(names = {"-idxa", "--indexAsync"}, description = "Asynchronous index workers")
+    private boolean idxAsync;
+
+    /** */
+    @Parameter(names = {"-idxnrt", "--indexNrt"}, description = "Near-real-time index manager")
+    private boolean idxNrt;
+
+    /** */
+    @Parameter(names = {"-idxrr", "--indexReaderRefresh"}, description = "Async index reader refresh period in ms")
+    private long idxReaderRefresh;
+
+    /** */
+    @Parameter(names = {"-lm", "--listenerMode"}, description = "Listener mode")
+    private ListenerMode lsnrMode = ListenerMode.CLUSTER;
+
+    /** */
+    @Parameter(names = {"-ln", "--listeners"}, description = "Number of listeners")
+    private int lsnrs = 1;
+
+    /** */
+    @Parameter(names = {"-rbi", "--rebalanceInterval"}, description = "Node join and leave interval in seconds")
+    private int rebalanceInterval = 30;
+
+    /** */
+    @Parameter(names = {"-lnc", "--localNodes"}, description = "Number of nodes started in one server JVM")
+    private int localNodes = 1;
+
+    /** */
+    @Parameter(names = {"-bp", "--basePort"}, description = "JGroups base port")
+    private int basePort = 7800;
+
+    /** */
+    @Parameter(names = {"-ae", "--advancedExternalizers"}, description = "Use AdvancedExternalizer for model")
+    private boolean advancedExternalizers;
+
+    /** */
+    @Parameter(names = {"-js", "--jgroupsStack"}, description = "JGroups stack file")
+    private String jgroupsStack = "config/infinispan-jgroups.xml";
+
+    /** */
+    @Parameter(names = {"-jb", "--jgroupsBundler"}, description = "JGroups bundler type")
+    private String jgroupsBundler = "transfer-queue";
+
+    /** */
+    @Parameter(names = {"-cmo", "--cacheMode"}, description = "Clustering mode of caches")
+    private ClusteringMode cacheMode = ClusteringMode.DIST;
+
+    /** */
+    @Parameter(names = {"-l1l", "--l1Lifespan"}, description = "L1 entries lifespan in ms")
+    private long l1Lifespan = 600_000;
+
     /**
      * @return {@code True} whether communication is asynchronous or not.
      */
@@ -122,6 +322,343 @@ public class InfinispanBenchmarkArguments {
         return txIsolation;
     }
 
+    /**
+     * @return Transaction protocol of transactional caches.
+     */
+    public TransactionProtocol txProtocol() {
+        return txProtocol;
+    }
+
+    /**
+     * @return {@code True} if write skew check is enabled for optimistic transactions.
+     */
+    public boolean writeSkewCheck() {
+        return writeSkewCheck;
+    }
+
+    /**
+     * @return Max number of outstanding asynchronous operations per driver thread.
+     */
+    public int asyncWindow() {
+        return asyncWindow;
+    }
+
+    /**
+     * @return Key distribution.
+     */
+    public KeyDistribution keyDistribution() {
+        return keyDist;
+    }
+
+    /**
+     * @return Zipfian distribution skew.
+     */
+    public double zipfianTheta() {
+        return zipfianTheta;
+    }
+
+    /**
+     * @return Fraction of keys in hot set.
+     */
+    public double hotSetFraction() {
+        return hotSetFraction;
+    }
+
+    /**
+     * @return Fraction of operations going to hot set.
+     */
+    public double hotOpFraction() {
+        return hotOpFraction;
+    }
+
+    /**
+     * @return Number of threads used to preload data.
+     */
+    public int preloadThreads() {
+        return preloadThreads;
+    }
+
+    /**
+     * @return Batch size used to preload data.
+     */
+    public int preloadBatch() {
+        return preloadBatch;
+    }
+
+    /**
+     * @return HotRod client near cache mode.
+     */
+    public NearCacheMode nearCacheMode() {
+        return nearCacheMode;
+    }
+
+    /**
+     * @return HotRod client near cache max entries, non-positive value means unbounded.
+     */
+    public int nearCacheMaxEntries() {
+        return nearCacheMaxEntries;
+    }
+
+    /**
+     * @return Max get latency in microseconds counted as near cache hit.
+     */
+    public long nearCacheHitLatency() {
+        return nearCacheHitLatency;
+    }
+
+    /**
+     * @return Percentage of write operations in read-mostly benchmarks.
+     */
+    public int writePercent() {
+        return writePercent;
+    }
+
+    /**
+     * @return Number of organizations persons belong to.
+     */
+    public int organizations() {
+        return orgs;
+    }
+
+    /**
+     * @return Fraction of persons matched by aggregation queries.
+     */
+    public double querySelectivity() {
+        return qrySelectivity;
+    }
+
+    /**
+     * @return Aggregation mode.
+     */
+    public StreamMode streamMode() {
+        return streamMode;
+    }
+
+    /**
+     * @return Size of value payload in bytes, {@code 0} means no payload.
+     */
+    public int valueSize() {
+        return valSize;
+    }
+
+    /**
+     * @return {@code True} if keys and values are stored in marshalled form.
+     */
+    public boolean storeAsBinary() {
+        return storeAsBinary;
+    }
+
+    /**
+     * @return Cache store.
+     */
+    public PersistenceMode persistence() {
+        return persistence;
+    }
+
+    /**
+     * @return Cache store and filesystem index directory.
+     */
+    public String persistenceDirectory() {
+        return persistenceDir;
+    }
+
+    /**
+     * @return {@code True} if cache store is write-behind, write-through is a default.
+     */
+    public boolean writeBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * @return Write-behind modification queue size.
+     */
+    public int writeBehindQueueSize() {
+        return writeBehindQueueSize;
+    }
+
+    /**
+     * @return Passivation.
+     */
+    public boolean passivation() {
+        return passivation;
+    }
+
+    /**
+     * @return Max number of entries or bytes before eviction, {@code 0} means eviction is disabled.
+     */
+    public long evictionSize() {
+        return evictionSize;
+    }
+
+    /**
+     * @return Eviction type.
+     */
+    public EvictionType evictionType() {
+        return evictionType;
+    }
+
+    /**
+     * @return Eviction strategy.
+     */
+    public EvictionStrategy evictionStrategy() {
+        return evictionStrategy;
+    }
+
+    /**
+     * @return Target rate of operations per second for every driver, {@code 0} means closed-loop mode.
+     */
+    public long targetRate() {
+        return targetRate;
+    }
+
+    /**
+     * @return Read-modify-write mode.
+     */
+    public ReadModifyWriteMode rmwMode() {
+        return rmwMode;
+    }
+
+    /**
+     * @return Number of contended keys.
+     */
+    public int hotKeys() {
+        return hotKeys;
+    }
+
+    /**
+     * @return {@code True} if keys of every batch are colocated on one primary owner.
+     */
+    public boolean keyAffinity() {
+        return keyAffinity;
+    }
+
+    /**
+     * @return Query results shape.
+     */
+    public QueryMode queryMode() {
+        return qryMode;
+    }
+
+    /**
+     * @return Query page size.
+     */
+    public int pageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return Full-text query type.
+     */
+    public FullTextMode fullTextMode() {
+        return fullTextMode;
+    }
+
+    /**
+     * @return Path to name corpus file or {@code null} if default corpus is used.
+     */
+    public String nameCorpus() {
+        return nameCorpus;
+    }
+
+    /**
+     * @return Index storage.
+     */
+    public IndexDirectory indexDirectory() {
+        return idxDir;
+    }
+
+    /**
+     * @return {@code True} if index workers are asynchronous.
+     */
+    public boolean indexAsync() {
+        return idxAsync;
+    }
+
+    /**
+     * @return {@code True} if near-real-time index manager is used.
+     */
+    public boolean indexNrt() {
+        return idxNrt;
+    }
+
+    /**
+     * @return Async index reader refresh period in milliseconds, {@code 0} means shared reader is used.
+     */
+    public long indexReaderRefresh() {
+        return idxReaderRefresh;
+    }
+
+    /**
+     * @return Listener mode.
+     */
+    public ListenerMode listenerMode() {
+        return lsnrMode;
+    }
+
+    /**
+     * @return Number of listeners.
+     */
+    public int listeners() {
+        return lsnrs;
+    }
+
+    /**
+     * @return Interval between joins and leaves of extra node in seconds.
+     */
+    public int rebalanceInterval() {
+        return rebalanceInterval;
+    }
+
+    /**
+     * @return Number of nodes started by {@link InfinispanMultiNode} in one JVM.
+     */
+    public int localNodes() {
+        return localNodes;
+    }
+
+    /**
+     * @return JGroups TCP port of the first node on a host, next nodes use consecutive ports.
+     */
+    public int basePort() {
+        return basePort;
+    }
+
+    /**
+     * @return {@code True} if model classes are marshalled by registered {@code AdvancedExternalizer}
+     *      implementations instead of {@code Externalizable}.
+     */
+    public boolean advancedExternalizers() {
+        return advancedExternalizers;
+    }
+
+    /**
+     * @return JGroups stack file.
+     */
+    public String jgroupsStack() {
+        return jgroupsStack;
+    }
+
+    /**
+     * @return JGroups bundler type, used by stacks which do not hard-code it.
+     */
+    public String jgroupsBundler() {
+        return jgroupsBundler;
+    }
+
+    /**
+     * @return Clustering mode of caches.
+     */
+    public ClusteringMode cacheMode() {
+        return cacheMode;
+    }
+
+    /**
+     * @return Lifespan of L1 entries in milliseconds, used in {@link ClusteringMode#DIST_L1} mode.
+     */
+    public long l1Lifespan() {
+        return l1Lifespan;
+    }
+
     /**
      * @return Description.
      */
@@ -138,7 +675,54 @@ public class InfinispanBenchmarkArguments {
             ", async=" + async +
             ", clientMode=" + clientMode +
             ", txConcurrency=" + txConcurrency +
+            ", txProtocol=" + txProtocol +
+            ", writeSkewCheck=" + writeSkewCheck +
             ", range=" + range +
+            ", asyncWindow=" + asyncWindow +
+            ", keyDist=" + keyDist +
+            ", zipfianTheta=" + zipfianTheta +
+            ", hotSetFraction=" + hotSetFraction +
+            ", hotOpFraction=" + hotOpFraction +
+            ", preloadThreads=" + preloadThreads +
+            ", preloadBatch=" + preloadBatch +
+            ", nearCacheMode=" + nearCacheMode +
+            ", nearCacheMaxEntries=" + nearCacheMaxEntries +
+            ", writePercent=" + writePercent +
+            ", orgs=" + orgs +
+            ", qrySelectivity=" + qrySelectivity +
+            ", streamMode=" + streamMode +
+            ", valSize=" + valSize +
+            ", storeAsBinary=" + storeAsBinary +
+            ", persistence=" + persistence +
+            ", persistenceDir='" + persistenceDir + '\'' +
+            ", writeBehind=" + writeBehind +
+            ", writeBehindQueueSize=" + writeBehindQueueSize +
+            ", passivation=" + passivation +
+            ", evictionSize=" + evictionSize +
+            ", evictionType=" + evictionType +
+            ", evictionStrategy=" + evictionStrategy +
+            ", targetRate=" + targetRate +
+            ", rmwMode=" + rmwMode +
+            ", hotKeys=" + hotKeys +
+            ", keyAffinity=" + keyAffinity +
+            ", qryMode=" + qryMode +
+            ", pageSize=" + pageSize +
+            ", fullTextMode=" + fullTextMode +
+            ", nameCorpus='" + nameCorpus + '\'' +
+            ", idxDir=" + idxDir +
+            ", idxAsync=" + idxAsync +
+            ", idxNrt=" + idxNrt +
+            ", idxReaderRefresh=" + idxReaderRefresh +
+            ", lsnrMode=" + lsnrMode +
+            ", lsnrs=" + lsnrs +
+            ", rebalanceInterval=" + rebalanceInterval +
+            ", localNodes=" + localNodes +
+            ", basePort=" + basePort +
+            ", advancedExternalizers=" + advancedExternalizers +
+            ", jgroupsStack='" + jgroupsStack + '\'' +
+            ", jgroupsBundler='" + jgroupsBundler + '\'' +
+            ", cacheMode=" + cacheMode +
+            ", l1Lifespan=" + l1Lifespan +
             ']';
     }
 }
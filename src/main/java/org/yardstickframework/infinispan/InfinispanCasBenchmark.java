@@ -0,0 +1,107 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.infinispan.client.hotrod.Flag;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.VersionedValue;
+import org.infinispan.commons.api.BasicCache;
+import org.yardstickframework.BenchmarkConfiguration;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Infinispan benchmark that increments counters from a small hot key set with optimistic compare-and-set
+ * loops: {@code putIfAbsent} and {@code replace(key, old, new)} in embedded mode, {@code putIfAbsent} and
+ * {@code replaceWithVersion} in client mode. Reports ratio of successful updates to retries.
+ */
+public class InfinispanCasBenchmark extends InfinispanAbstractBenchmark {
+    /** */
+    private final LongAdder updates = new LongAdder();
+
+    /** */
+    private final LongAdder retries = new LongAdder();
+
+    /** HotRod cache returning previous values, {@code null} in embedded mode. */
+    private RemoteCache<Object, Object> rmtCache;
+
+    /** {@inheritDoc} */
+    @Override public void setUp(BenchmarkConfiguration cfg) throws Exception {
+        super.setUp(cfg);
+
+        if (args.clientMode())
+            rmtCache = ((RemoteCache<Object, Object>)cache).withFlags(Flag.FORCE_RETURN_VALUE);
+
+        println(cfg, "CAS hot key set size: " + args.hotKeys());
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
+        int key = nextRandom(args.hotKeys());
+
+        while (!(rmtCache != null ? versionedIncrement(rmtCache, key) : increment(cache, key)))
+            retries.increment();
+
+        updates.increment();
+
+        return true;
+    }
+
+    /**
+     * @param cache Cache.
+     * @param key Key.
+     * @return {@code True} if counter was updated.
+     */
+    private static boolean increment(BasicCache<Object, Object> cache, int key) {
+        Object old = cache.get(key);
+
+        if (old == null)
+            return cache.putIfAbsent(key, 1L) == null;
+
+        return cache.replace(key, old, (Long)old + 1);
+    }
+
+    /**
+     * @param cache Remote cache.
+     * @param key Key.
+     * @return {@code True} if counter was updated.
+     */
+    private static boolean versionedIncrement(RemoteCache<Object, Object> cache, int key) {
+        VersionedValue<Object> old = cache.getVersioned(key);
+
+        if (old == null)
+            return cache.putIfAbsent(key, 1L) == null;
+
+        return cache.replaceWithVersion(key, (Long)old.getValue() + 1, old.getVersion());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void tearDown() throws Exception {
+        long u = updates.sum();
+        long r = retries.sum();
+
+        println(cfg, "CAS statistics [updates=" + u + ", retries=" + r + ", successRatio=" +
+            (u + r == 0 ? 0 : u * 100 / (u + r)) + "%]");
+
+        super.tearDown();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected String cacheName() {
+        return "cache";
+    }
+}
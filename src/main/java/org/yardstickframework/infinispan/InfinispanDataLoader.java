@@ -0,0 +1,200 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.infinispan.AdvancedCache;
+import org.infinispan.commons.api.BasicCache;
+import org.infinispan.context.Flag;
+import org.infinispan.distribution.DistributionManager;
+import org.yardstickframework.BenchmarkConfiguration;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Parallel data loader. Splits key range between threads, every thread streams its part of the range
+ * into the cache with {@code putAll} batches. In embedded mode entries are grouped by primary owner,
+ * so that every batch goes to a single node, and indexing is skipped, so that data should be indexed
+ * with {@code MassIndexer} after loading.
+ */
+public class InfinispanDataLoader {
+    /** Progress report interval in milliseconds. */
+    private static final long REPORT_INTERVAL = 5_000;
+
+    /**
+     * Creates values for loaded keys.
+     */
+    public interface ValueFactory {
+        /**
+         * @param key Key.
+         * @return Value.
+         */
+        public Object create(int key);
+    }
+
+    /** */
+    private final BenchmarkConfiguration cfg;
+
+    /** */
+    private final BasicCache<Object, Object> cache;
+
+    /** */
+    private final int threads;
+
+    /** */
+    private final int batch;
+
+    /** */
+    private final AtomicLong loaded = new AtomicLong();
+
+    /**
+     * @param cfg Benchmark configuration.
+     * @param cache Cache.
+     * @param threads Number of loading threads.
+     * @param batch Batch size.
+     */
+    public InfinispanDataLoader(BenchmarkConfiguration cfg, BasicCache<Object, Object> cache, int threads,
+        int batch) {
+        if (threads < 1 || batch < 1)
+            throw new IllegalArgumentException("Number of threads and batch size must be positive [threads=" +
+                threads + ", batch=" + batch + ']');
+
+        this.cfg = cfg;
+        this.threads = threads;
+        this.batch = batch;
+
+        this.cache = cache instanceof AdvancedCache ?
+            ((AdvancedCache<Object, Object>)cache).withFlags(Flag.SKIP_INDEXING) : cache;
+    }
+
+    /**
+     * Loads keys from {@code 0} (inclusive) to {@code range} (exclusive).
+     *
+     * @param range Key range.
+     * @param factory Value factory.
+     * @throws Exception If failed.
+     */
+    public void load(int range, final ValueFactory factory) throws Exception {
+        println(cfg, "Loading " + range + " entries [threads=" + threads + ", batch=" + batch + "]...");
+
+        long start = System.nanoTime();
+
+        ExecutorService exec = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<?>> futs = new ArrayList<>(threads);
+
+            int chunk = (range + threads - 1) / threads;
+
+            for (int i = 0; i < threads; i++) {
+                final int from = Math.min(i * chunk, range);
+                final int to = Math.min(from + chunk, range);
+
+                futs.add(exec.submit(new Callable<Void>() {
+                    @Override public Void call() throws Exception {
+                        load(from, to, factory);
+
+                        return null;
+                    }
+                }));
+            }
+
+            exec.shutdown();
+
+            long lastCnt = 0;
+            long lastTime = System.nanoTime();
+
+            while (!exec.awaitTermination(REPORT_INTERVAL, TimeUnit.MILLISECONDS)) {
+                long cnt = loaded.get();
+                long now = System.nanoTime();
+
+                println(cfg, "Loaded " + cnt + " of " + range + " entries [rate=" +
+                    (cnt - lastCnt) * 1_000_000_000L / Math.max(now - lastTime, 1) + " entries/s]");
+
+                lastCnt = cnt;
+                lastTime = now;
+            }
+
+            for (Future<?> fut : futs)
+                fut.get();
+        }
+        finally {
+            exec.shutdownNow();
+        }
+
+        long dur = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+
+        println(cfg, "Finished loading " + loaded.get() + " entries in " + dur + "ms [rate=" +
+            loaded.get() * 1000 / dur + " entries/s].");
+    }
+
+    /**
+     * @param from Start key (inclusive).
+     * @param to End key (exclusive).
+     * @param factory Value factory.
+     */
+    private void load(int from, int to, ValueFactory factory) {
+        DistributionManager dm = cache instanceof AdvancedCache ?
+            ((AdvancedCache<Object, Object>)cache).getDistributionManager() : null;
+
+        Map<Object, Map<Object, Object>> batches = new HashMap<>();
+
+        for (int key = from; key < to && !Thread.currentThread().isInterrupted(); key++) {
+            Object owner = dm != null ? dm.getConsistentHash().locatePrimaryOwner(key) : null;
+
+            Map<Object, Object> b = batches.get(owner);
+
+            if (b == null)
+                batches.put(owner, b = new HashMap<>(batch * 2));
+
+            b.put(key, factory.create(key));
+
+            if (b.size() >= batch)
+                flush(b);
+        }
+
+        for (Map<Object, Object> b : batches.values()) {
+            if (!b.isEmpty())
+                flush(b);
+        }
+    }
+
+    /**
+     * @param b Batch.
+     */
+    private void flush(Map<Object, Object> b) {
+        cache.putAll(b);
+
+        loaded.addAndGet(b.size());
+
+        b.clear();
+    }
+
+    /**
+     * @return Number of loaded entries.
+     */
+    public long loaded() {
+        return loaded.get();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.infinispan.Cache;
+import org.infinispan.stats.Stats;
+import org.yardstickframework.BenchmarkConfiguration;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Infinispan benchmark that performs read-through style get and put-on-miss operations on cache bounded
+ * by eviction. Key range should be larger than {@code -es} to make eviction happen. Periodically reports
+ * hit ratio seen by the driver and eviction rate of the local node.
+ */
+public class InfinispanEvictionBenchmark extends InfinispanAbstractBenchmark {
+    /** Statistics report interval in seconds. */
+    private static final long REPORT_INTERVAL = 10;
+
+    /** */
+    private final LongAdder gets = new LongAdder();
+
+    /** */
+    private final LongAdder hits = new LongAdder();
+
+    /** */
+    private ScheduledExecutorService reporter;
+
+    /** */
+    private long lastEvictions;
+
+    /** */
+    private long lastGets;
+
+    /** */
+    private long lastHits;
+
+    /** {@inheritDoc} */
+    @Override public void setUp(BenchmarkConfiguration cfg) throws Exception {
+        super.setUp(cfg);
+
+        if (args.clientMode())
+            throw new IllegalStateException("Eviction statistics are not available in client mode.");
+
+        if (args.evictionSize() <= 0)
+            println(cfg, "[WARNING] Eviction is disabled, use '-es' option to enable it.");
+
+        reporter = Executors.newSingleThreadScheduledExecutor();
+
+        reporter.scheduleAtFixedRate(new Runnable() {
+            @Override public void run() {
+                printStatistics();
+            }
+        }, REPORT_INTERVAL, REPORT_INTERVAL, TimeUnit.SECONDS);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
+        int key = nextRandom(args.range());
+
+        gets.increment();
+
+        if (cache.get(key) != null)
+            hits.increment();
+        else
+            cache.put(key, sampleValue(key));
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void tearDown() throws Exception {
+        if (reporter != null)
+            reporter.shutdownNow();
+
+        super.tearDown();
+    }
+
+    /** */
+    private synchronized void printStatistics() {
+        try {
+            Stats stats = ((Cache<?, ?>)cache).getAdvancedCache().getStats();
+
+            long evictions = stats.getEvictions();
+            long g = gets.sum();
+            long h = hits.sum();
+
+            long intervalGets = g - lastGets;
+
+            println(cfg, "Eviction statistics [entries=" + stats.getCurrentNumberOfEntries() +
+                ", hitRatio=" + (intervalGets == 0 ? 0 : (h - lastHits) * 100 / intervalGets) + '%' +
+                ", evictionsPerSec=" + (evictions - lastEvictions) / REPORT_INTERVAL + ']');
+
+            lastEvictions = evictions;
+            lastGets = g;
+            lastHits = h;
+        }
+        catch (Exception e) {
+            println(cfg, "Failed to collect eviction statistics: " + e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override protected String cacheName() {
+        return "cache";
+    }
+}
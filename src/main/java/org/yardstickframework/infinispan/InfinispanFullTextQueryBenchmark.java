@@ -0,0 +1,184 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
+import org.hibernate.search.indexes.spi.DirectoryBasedIndexManager;
+import org.hibernate.search.indexes.spi.IndexManager;
+import org.hibernate.search.query.dsl.QueryBuilder;
+import org.hibernate.search.spi.SearchIntegrator;
+import org.infinispan.Cache;
+import org.infinispan.query.CacheQuery;
+import org.infinispan.query.Search;
+import org.infinispan.query.SearchManager;
+import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.infinispan.model.IndexedPerson;
+import org.yardstickframework.infinispan.probes.Phase;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Infinispan benchmark that performs full-text queries on analyzed person names. Query type is selected
+ * by {@link InfinispanBenchmarkArguments#fullTextMode()}, names are taken from corpus set by {@code -nc} option.
+ */
+public class InfinispanFullTextQueryBenchmark extends InfinispanAbstractBenchmark {
+    /** */
+    private NameCorpus corpus;
+
+    /** */
+    private SearchManager searchMgr;
+
+    /** {@inheritDoc} */
+    @Override public void setUp(BenchmarkConfiguration cfg) throws Exception {
+        super.setUp(cfg);
+
+        if (args.clientMode())
+            throw new IllegalStateException("HotRod Client does not support full-text queries.");
+
+        corpus = new NameCorpus(args.nameCorpus());
+
+        searchMgr = Search.getSearchManager((Cache<?, ?>)cache);
+
+        println(cfg, "Populating full-text query data [firstNames=" + corpus.firstNames() + ", lastNames=" +
+            corpus.lastNames() + ", mode=" + args.fullTextMode() + "]...");
+
+        long start = System.nanoTime();
+
+        new InfinispanDataLoader(cfg, cache, args.preloadThreads(), args.preloadBatch()).load(args.range(),
+            new InfinispanDataLoader.ValueFactory() {
+                @Override public Object create(int key) {
+                    return new IndexedPerson(key, key % args.organizations(), corpus.firstName(key),
+                        corpus.lastName(key), key * 1000);
+                }
+            });
+
+        println(cfg, "Indexing of populated data...");
+
+        searchMgr.getMassIndexer().start();
+
+        println(cfg, "Finished populating full-text query data in " + ((System.nanoTime() - start) / 1_000_000) +
+            "ms [indexSize=" + indexSize() + " bytes].");
+    }
+
+    /** {@inheritDoc} */
+    @Override protected String cacheName() {
+        return "fullTextCache";
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
+        QueryBuilder qb = searchMgr.buildQueryBuilderForClass(IndexedPerson.class).get();
+
+        // Names of random persons, so that names are queried with the same frequency as they are stored.
+        String lastName = corpus.lastName(nextRandom(args.range()));
+
+        Query luceneQry;
+
+        switch (args.fullTextMode()) {
+            case TERM:
+                luceneQry = qb.keyword().onField("lastName").matching(lastName).createQuery();
+
+                break;
+
+            case WILDCARD:
+                String prefix = lastName.substring(0, Math.min(3, lastName.length())).toLowerCase();
+
+                luceneQry = qb.keyword().wildcard().onField("lastName").matching(prefix + '*').createQuery();
+
+                break;
+
+            case PHRASE:
+                String firstName = corpus.firstName(nextRandom(args.range()));
+
+                luceneQry = qb.phrase().onField("fullName").sentence(firstName + ' ' + lastName).createQuery();
+
+                break;
+
+            case FUZZY:
+                luceneQry = qb.keyword().fuzzy().withEditDistanceUpTo(1).onField("lastName").
+                    matching(misspell(lastName)).createQuery();
+
+                break;
+
+            default:
+                throw new IllegalStateException("Unknown full-text query mode: " + args.fullTextMode());
+        }
+
+        CacheQuery qry = searchMgr.getQuery(luceneQry, IndexedPerson.class).maxResults(args.pageSize());
+
+        long start = phases.start();
+
+        List<?> res = qry.list();
+
+        phases.record(Phase.QUERY, start);
+
+        if (res.size() > args.pageSize())
+            throw new Exception("Invalid number of results [expected<=" + args.pageSize() + ", actual=" +
+                res.size() + ']');
+
+        return true;
+    }
+
+    /**
+     * @param name Name.
+     * @return Name with two adjacent characters swapped.
+     */
+    private String misspell(String name) {
+        if (name.length() < 2)
+            return name;
+
+        char[] chars = name.toCharArray();
+
+        int i = nextRandom(chars.length - 1);
+
+        char c = chars[i];
+
+        chars[i] = chars[i + 1];
+        chars[i + 1] = c;
+
+        return new String(chars);
+    }
+
+    /**
+     * @return Size of person index in bytes or {@code -1} if it can not be calculated.
+     */
+    private long indexSize() {
+        try {
+            SearchIntegrator integrator = searchMgr.unwrap(SearchIntegrator.class);
+
+            long size = 0;
+
+            for (IndexManager mgr : integrator.getIndexBinding(IndexedPerson.class).getIndexManagers()) {
+                if (!(mgr instanceof DirectoryBasedIndexManager))
+                    return -1;
+
+                Directory dir = ((DirectoryBasedIndexManager)mgr).getDirectoryProvider().getDirectory();
+
+                for (String file : dir.listAll())
+                    size += dir.fileLength(file);
+            }
+
+            return size;
+        }
+        catch (Exception e) {
+            println(cfg, "Failed to calculate index size: " + e);
+
+            return -1;
+        }
+    }
+}
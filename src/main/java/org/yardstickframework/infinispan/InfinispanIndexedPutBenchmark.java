@@ -0,0 +1,134 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.infinispan.Cache;
+import org.infinispan.query.Search;
+import org.infinispan.query.dsl.Query;
+import org.infinispan.query.dsl.QueryFactory;
+import org.yardstickframework.infinispan.model.Person;
+import org.yardstickframework.infinispan.probes.Phase;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Infinispan benchmark that performs index-updating puts. {@link InfinispanBenchmarkArguments#writePercent()}
+ * percent of operations are plain puts recorded as {@link Phase#PUT}, the rest are staleness probes: a person
+ * with unique marker salary is put and then queried until it becomes visible, time from the put until the
+ * query returns it is recorded as {@link Phase#STALENESS}. Every driver thread probes its own key above
+ * {@code -r} range, so markers are not overwritten by plain puts. Probes which do not see the marker in
+ * 10 seconds are recorded with elapsed time, so that worst cases are not dropped from percentiles, and also
+ * counted as misses reported on tear down. Index storage and workers are configured
+ * with {@code -idx}, {@code -idxa}, {@code -idxnrt} and {@code -idxrr} options.
+ */
+public class InfinispanIndexedPutBenchmark extends InfinispanSqlQueryBenchmark {
+    /** Maximum time to wait for updated entry to become visible to queries. */
+    private static final long STALENESS_TIMEOUT = TimeUnit.SECONDS.toNanos(10);
+
+    /** Pause between queries while waiting for updated entry. */
+    private static final long POLL_PAUSE = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /** Marker sequence, markers are negative so they never match preloaded salaries. */
+    private final AtomicLong markerSeq = new AtomicLong();
+
+    /** */
+    private final LongAdder probes = new LongAdder();
+
+    /** Probes which timed out. */
+    private final LongAdder misses = new LongAdder();
+
+    /** Per-thread staleness probe keys, random above key range to not collide with other drivers. */
+    private final ThreadLocal<Integer> probeKey = new ThreadLocal<Integer>() {
+        @Override protected Integer initialValue() {
+            return args.range() + ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE - args.range());
+        }
+    };
+
+    /** {@inheritDoc} */
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
+        if (ThreadLocalRandom.current().nextInt(100) < args.writePercent()) {
+            int key = nextRandom(args.range());
+
+            long start = phases.start();
+
+            cache.put(key, createPerson(key, "firstName" + key, "lastName" + key, key * 1000));
+
+            phases.record(Phase.PUT, start);
+
+            return true;
+        }
+
+        int key = probeKey.get();
+
+        double marker = -(double)markerSeq.incrementAndGet();
+
+        QueryFactory qf = Search.getQueryFactory((Cache<Object, Object>)cache);
+
+        Query qry = qf.from(Person.class).having("salary").eq(marker).toBuilder().build();
+
+        long start = phases.start();
+
+        cache.put(key, createPerson(key, "firstName" + key, "lastName" + key, marker));
+
+        start = phases.record(Phase.PUT, start);
+
+        long deadline = System.nanoTime() + STALENESS_TIMEOUT;
+
+        probes.increment();
+
+        while (!visible(qry.<Person>list(), key)) {
+            if (System.nanoTime() > deadline) {
+                misses.increment();
+
+                break;
+            }
+
+            LockSupport.parkNanos(POLL_PAUSE);
+        }
+
+        phases.record(Phase.STALENESS, start);
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void tearDown() throws Exception {
+        println(cfg, "Staleness statistics [probes=" + probes.sum() + ", misses=" + misses.sum() + ", timeout=" +
+            TimeUnit.NANOSECONDS.toMillis(STALENESS_TIMEOUT) + "ms]");
+
+        super.tearDown();
+    }
+
+    /**
+     * @param res Query result.
+     * @param key Key of updated person.
+     * @return {@code True} if query result contains updated person.
+     */
+    private static boolean visible(List<Person> res, int key) {
+        for (Person p : res) {
+            if (p.getId() == key)
+                return true;
+        }
+
+        return false;
+    }
+}
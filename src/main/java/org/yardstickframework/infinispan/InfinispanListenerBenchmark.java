@@ -0,0 +1,257 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.infinispan.Cache;
+import org.infinispan.metadata.Metadata;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryCreated;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryModified;
+import org.infinispan.notifications.cachelistener.event.CacheEntryEvent;
+import org.infinispan.notifications.cachelistener.filter.CacheEventFilter;
+import org.infinispan.notifications.cachelistener.filter.EventType;
+import org.infinispan.query.Search;
+import org.infinispan.query.api.continuous.ContinuousQueryListener;
+import org.infinispan.query.continuous.ContinuousQuery;
+import org.infinispan.query.dsl.Query;
+import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.infinispan.model.Person;
+import org.yardstickframework.infinispan.probes.Phase;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Infinispan benchmark that performs put operations while {@code -ln} cluster listeners or continuous queries
+ * are registered. Every listener watches its own salary window of {@code -qs} fraction of the range, windows
+ * are spread evenly over the range. Put latency is recorded as {@link Phase#PUT} and should be compared
+ * with {@code -lm NONE} run to get write path slowdown, time from put until listener callback is recorded
+ * as {@link Phase#EVENT}. Event delivery rate is reported periodically. Start time of a put is carried in first
+ * name of the written person together with id of this driver, so that event latency is taken only for puts
+ * of this driver and from the start time of the very put which fired the event.
+ * <p>
+ * Note that continuous queries notify only when entry joins or leaves query result, so every put assigns
+ * random salary to make entries move between windows. Leaving entries are not passed to listener, so only
+ * joining events are timed.
+ */
+public class InfinispanListenerBenchmark extends InfinispanAbstractBenchmark {
+    /** Statistics report interval in seconds. */
+    private static final long REPORT_INTERVAL = 10;
+
+    /** Prefix of first names written by this driver, followed by put start time. */
+    private final String stampPrefix = Long.toHexString(ThreadLocalRandom.current().nextLong()) + ':';
+
+    /** */
+    private final LongAdder puts = new LongAdder();
+
+    /** */
+    private final LongAdder evts = new LongAdder();
+
+    /** Registered cluster listeners. */
+    private final Collection<Object> lsnrs = new ArrayList<>();
+
+    /** */
+    private ContinuousQuery<Object, Object> contQry;
+
+    /** */
+    private ScheduledExecutorService reporter;
+
+    /** */
+    private long lastPuts;
+
+    /** */
+    private long lastEvts;
+
+    /** {@inheritDoc} */
+    @SuppressWarnings("unchecked")
+    @Override public void setUp(BenchmarkConfiguration cfg) throws Exception {
+        super.setUp(cfg);
+
+        if (args.clientMode())
+            throw new IllegalStateException("Listener benchmark is not supported in client mode.");
+
+        Cache<Object, Object> c = (Cache<Object, Object>)cache;
+
+        double width = Math.max(1, args.querySelectivity() * args.range()) * 1000;
+
+        for (int i = 0; i < (args.listenerMode() == ListenerMode.NONE ? 0 : args.listeners()); i++) {
+            double min = (double)i * args.range() / args.listeners() * 1000;
+            double max = min + width;
+
+            switch (args.listenerMode()) {
+                case CLUSTER:
+                    Object lsnr = new SalaryListener();
+
+                    c.addListener(lsnr, new SalaryFilter(min, max), null);
+
+                    lsnrs.add(lsnr);
+
+                    break;
+
+                case CONTINUOUS_QUERY:
+                    if (contQry == null)
+                        contQry = new ContinuousQuery<>(c);
+
+                    Query qry = Search.getQueryFactory(c).from(Person.class).
+                        having("salary").between(min, max).includeUpper(false).toBuilder().build();
+
+                    contQry.addContinuousQueryListener(qry, new ContinuousQueryListener<Object, Object>() {
+                        @Override public void resultJoining(Object key, Object val) {
+                            onEvent(val);
+                        }
+
+                        @Override public void resultLeaving(Object key) {
+                            onEvent(null);
+                        }
+                    });
+
+                    break;
+
+                default:
+                    throw new IllegalStateException("Unknown listener mode: " + args.listenerMode());
+            }
+        }
+
+        println(cfg, "Registered listeners [mode=" + args.listenerMode() + ", count=" +
+            (args.listenerMode() == ListenerMode.NONE ? 0 : args.listeners()) + ", windowWidth=" + width + ']');
+
+        reporter = Executors.newSingleThreadScheduledExecutor();
+
+        reporter.scheduleAtFixedRate(new Runnable() {
+            @Override public void run() {
+                printStatistics();
+            }
+        }, REPORT_INTERVAL, REPORT_INTERVAL, TimeUnit.SECONDS);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
+        int key = nextRandom(args.range());
+
+        double salary = nextRandom(args.range()) * 1000.0;
+
+        long start = phases.start();
+
+        cache.put(key, new Person(key, key % args.organizations(), stampPrefix + start, "lastName" + key, salary));
+
+        phases.record(Phase.PUT, start);
+
+        puts.increment();
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void tearDown() throws Exception {
+        if (reporter != null)
+            reporter.shutdownNow();
+
+        if (contQry != null)
+            contQry.removeAllListeners();
+
+        for (Object lsnr : lsnrs)
+            ((Cache<?, ?>)cache).removeListener(lsnr);
+
+        super.tearDown();
+    }
+
+    /**
+     * @param val Updated person or {@code null} if not passed to listener.
+     */
+    private void onEvent(Object val) {
+        evts.increment();
+
+        if (!(val instanceof Person))
+            return;
+
+        String stamp = ((Person)val).getFirstName();
+
+        // Entry may be updated by other driver, its start time is not comparable with time of this driver.
+        if (stamp != null && stamp.startsWith(stampPrefix))
+            phases.record(Phase.EVENT, Long.parseLong(stamp.substring(stampPrefix.length())));
+    }
+
+    /** */
+    private synchronized void printStatistics() {
+        long p = puts.sum();
+        long e = evts.sum();
+
+        println(cfg, "Listener statistics [putsPerSec=" + (p - lastPuts) / REPORT_INTERVAL +
+            ", eventsPerSec=" + (e - lastEvts) / REPORT_INTERVAL + ']');
+
+        lastPuts = p;
+        lastEvts = e;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected String cacheName() {
+        return "queryCache";
+    }
+
+    /** */
+    @Listener(clustered = true)
+    public class SalaryListener {
+        /**
+         * @param evt Event.
+         */
+        @CacheEntryCreated
+        @CacheEntryModified
+        public void onEntryEvent(CacheEntryEvent<Object, Object> evt) {
+            onEvent(evt.getValue());
+        }
+    }
+
+    /**
+     * Accepts persons with salary in the given range, executed on primary owners of updated entries.
+     */
+    private static class SalaryFilter implements CacheEventFilter<Object, Object>, Serializable {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** Minimum salary, inclusive. */
+        private final double min;
+
+        /** Maximum salary, exclusive. */
+        private final double max;
+
+        /**
+         * @param min Minimum salary, inclusive.
+         * @param max Maximum salary, exclusive.
+         */
+        SalaryFilter(double min, double max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean accept(Object key, Object oldVal, Metadata oldMeta, Object newVal, Metadata newMeta,
+            EventType evtType) {
+            if (!(newVal instanceof Person))
+                return false;
+
+            double salary = ((Person)newVal).getSalary();
+
+            return salary >= min && salary < max;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.transaction.RollbackException;
+import javax.transaction.TransactionManager;
+import org.infinispan.AdvancedCache;
+import org.infinispan.Cache;
+import org.infinispan.commons.CacheException;
+import org.infinispan.commons.api.BasicCache;
+import org.infinispan.context.Flag;
+import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.infinispan.model.Organization;
+import org.yardstickframework.infinispan.model.Person;
+import org.yardstickframework.infinispan.probes.Phase;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Infinispan benchmark that updates an organization and a batch of its persons stored in two different
+ * caches inside one transaction. Committed and aborted transactions (rolled back on commit or failed to
+ * acquire locks) are counted after warmup and reported on tear down.
+ */
+public class InfinispanMultiCacheTxBenchmark extends InfinispanAbstractBenchmark {
+    /** */
+    private BasicCache<Object, Object> orgCache;
+
+    /** Person cache which locks keys on read. */
+    private AdvancedCache<Object, Object> lockCache;
+
+    /** Organization cache which locks keys on read. */
+    private AdvancedCache<Object, Object> orgLockCache;
+
+    /** */
+    private final LongAdder commits = new LongAdder();
+
+    /** */
+    private final LongAdder aborts = new LongAdder();
+
+    /** Time when warmup ends and statistics collection starts. */
+    private long startTime;
+
+    /** {@inheritDoc} */
+    @Override public void setUp(BenchmarkConfiguration cfg) throws Exception {
+        super.setUp(cfg);
+
+        if (args.clientMode())
+            throw new IllegalStateException("HotRod Client does not support transactions.");
+
+        if (args.range() < args.organizations())
+            throw new IllegalArgumentException("Key range must not be less than number of organizations [range=" +
+                args.range() + ", orgs=" + args.organizations() + ']');
+
+        orgCache = cache("orgTransactional");
+
+        lockCache = ((Cache<Object, Object>)cache).getAdvancedCache().withFlags(Flag.FORCE_WRITE_LOCK);
+
+        orgLockCache = ((Cache<Object, Object>)orgCache).getAdvancedCache().withFlags(Flag.FORCE_WRITE_LOCK);
+
+        startTime = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(cfg.warmup());
+    }
+
+    /** {@inheritDoc} */
+    @Override protected String cacheName() {
+        return "transactional";
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
+        int orgId = nextRandom(args.organizations());
+
+        // Persons of organization have IDs equal to organization ID modulo number of organizations.
+        int orgPersons = args.range() / args.organizations();
+
+        // Persons are locked in key order after organization, so that pessimistic transactions do not deadlock.
+        SortedSet<Integer> ids = new TreeSet<>();
+
+        while (ids.size() < Math.min(args.batch(), orgPersons))
+            ids.add(nextRandom(orgPersons) * args.organizations() + orgId);
+
+        TransactionManager tm = ((Cache)cache).getAdvancedCache().getTransactionManager();
+
+        long start = phases.start();
+
+        tm.begin();
+
+        start = phases.record(Phase.BEGIN, start);
+
+        try {
+            // Values returned by embedded cache are stored instances, so updated copies are put.
+            Organization org = (Organization)orgLockCache.get(orgId);
+
+            orgCache.put(orgId, new Organization(orgId, "org" + orgId, (org == null ? 0 : org.getBudget()) +
+                ids.size()));
+
+            for (Integer id : ids) {
+                Person p = (Person)lockCache.get(id);
+
+                cache.put(id, new Person(id, orgId, "firstName" + id, "lastName" + id,
+                    (p == null ? 0 : p.getSalary()) + 1));
+            }
+
+            start = phases.record(Phase.PUT, start);
+
+            tm.commit();
+
+            phases.record(Phase.COMMIT, start);
+
+            if (measured())
+                commits.increment();
+
+            tm = null;
+        }
+        catch (RollbackException ignore) {
+            if (measured())
+                aborts.increment();
+
+            tm = null;
+        }
+        catch (CacheException ignore) {
+            // Lock acquisition timeout or deadlock, transaction is rolled back below.
+            if (measured())
+                aborts.increment();
+        }
+        finally {
+            if (tm != null)
+                tm.rollback();
+        }
+
+        return true;
+    }
+
+    /**
+     * @return {@code True} if warmup is finished.
+     */
+    private boolean measured() {
+        return System.currentTimeMillis() >= startTime;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void tearDown() throws Exception {
+        long c = commits.sum();
+        long a = aborts.sum();
+
+        println(cfg, "Transaction statistics [commits=" + c + ", aborts=" + a + ", abortRate=" +
+            (c + a == 0 ? 0 : a * 100 / (c + a)) + "%]");
+
+        super.tearDown();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.BenchmarkServer;
+import org.yardstickframework.BenchmarkUtils;
+
+import static org.yardstickframework.BenchmarkUtils.jcommander;
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Starts {@code -lnc} Infinispan nodes in one JVM. Nodes bind consecutive JGroups ports starting from
+ * {@code -bp} port, so with {@code SERVER_HOSTS=localhost} and {@code DRIVER_HOSTS=localhost} a whole
+ * cluster runs on loopback of one machine, and runs with different base ports do not interfere.
+ * Note that {@code -nn} should include all local nodes and the driver.
+ */
+public class InfinispanMultiNode implements BenchmarkServer {
+    /** Started nodes. */
+    private final List<InfinispanNode> nodes = new ArrayList<>();
+
+    /** {@inheritDoc} */
+    @Override public void start(BenchmarkConfiguration cfg) throws Exception {
+        InfinispanBenchmarkArguments args = new InfinispanBenchmarkArguments();
+
+        jcommander(cfg.commandLineArguments(), args, "<infinispan-multi-node>");
+
+        for (int i = 0; i < args.localNodes(); i++) {
+            InfinispanNode node = new InfinispanNode();
+
+            node.start(cfg);
+
+            nodes.add(node);
+
+            println(cfg, "Started local node " + (i + 1) + " of " + args.localNodes() + '.');
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void stop() throws Exception {
+        for (int i = nodes.size() - 1; i >= 0; i--)
+            nodes.get(i).stop();
+
+        nodes.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String usage() {
+        return BenchmarkUtils.usage(new InfinispanBenchmarkArguments());
+    }
+}
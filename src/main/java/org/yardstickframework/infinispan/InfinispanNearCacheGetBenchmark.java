@@ -0,0 +1,114 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.infinispan.client.hotrod.configuration.NearCacheMode;
+import org.yardstickframework.BenchmarkConfiguration;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Infinispan benchmark that performs read-mostly get and put operations, intended to be run in client mode
+ * with HotRod near cache enabled. HotRod client does not expose near cache statistics, so gets that complete
+ * faster than {@link InfinispanBenchmarkArguments#nearCacheHitLatency()} are counted as near cache hits.
+ */
+public class InfinispanNearCacheGetBenchmark extends InfinispanAbstractBenchmark {
+    /** Hit ratio report interval in nanoseconds. */
+    private static final long REPORT_INTERVAL = TimeUnit.SECONDS.toNanos(10);
+
+    /** */
+    private final LongAdder gets = new LongAdder();
+
+    /** */
+    private final LongAdder hits = new LongAdder();
+
+    /** */
+    private final AtomicLong nextReport = new AtomicLong();
+
+    /** */
+    private long hitLatencyNanos;
+
+    /** {@inheritDoc} */
+    @Override public void setUp(BenchmarkConfiguration cfg) throws Exception {
+        super.setUp(cfg);
+
+        if (!args.clientMode() || args.nearCacheMode() == NearCacheMode.DISABLED)
+            println(cfg, "[WARNING] Near cache is disabled, use '-cm' and '-ncm' options to enable it.");
+
+        hitLatencyNanos = TimeUnit.MICROSECONDS.toNanos(args.nearCacheHitLatency());
+
+        new InfinispanDataLoader(cfg, cache, args.preloadThreads(), args.preloadBatch()).load(args.range(),
+            new InfinispanDataLoader.ValueFactory() {
+                @Override public Object create(int key) {
+                    return sampleValue(key);
+                }
+            });
+
+        nextReport.set(System.nanoTime() + REPORT_INTERVAL);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
+        int key = nextRandom(args.range());
+
+        if (ThreadLocalRandom.current().nextInt(100) < args.writePercent())
+            cache.put(key, sampleValue(key));
+        else {
+            long start = System.nanoTime();
+
+            cache.get(key);
+
+            long end = System.nanoTime();
+
+            gets.increment();
+
+            if (end - start <= hitLatencyNanos)
+                hits.increment();
+
+            long next = nextReport.get();
+
+            if (end >= next && nextReport.compareAndSet(next, end + REPORT_INTERVAL))
+                printHitRatio();
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void tearDown() throws Exception {
+        printHitRatio();
+
+        super.tearDown();
+    }
+
+    /** */
+    private void printHitRatio() {
+        long g = gets.sum();
+        long h = hits.sum();
+
+        println(cfg, "Near cache hit ratio [gets=" + g + ", hits=" + h + ", ratio=" +
+            (g == 0 ? 0 : h * 100 / g) + "%]");
+    }
+
+    /** {@inheritDoc} */
+    @Override protected String cacheName() {
+        return "cache";
+    }
+}
@@ -15,8 +15,10 @@
 package org.yardstickframework.infinispan;
 
 import io.netty.channel.ChannelException;
+import java.io.File;
 import java.io.InputStream;
 import java.net.BindException;
+import java.util.UUID;
 import org.apache.log4j.ConsoleAppender;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
@@ -28,15 +30,29 @@ import org.infinispan.commons.api.BasicCacheContainer;
 import org.infinispan.configuration.cache.CacheMode;
 import org.infinispan.configuration.cache.Configuration;
 import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.Index;
+import org.infinispan.configuration.cache.IndexingConfigurationBuilder;
+import org.infinispan.configuration.cache.PersistenceConfigurationBuilder;
+import org.infinispan.configuration.cache.StoreConfigurationBuilder;
+import org.infinispan.configuration.cache.VersioningScheme;
+import org.infinispan.configuration.parsing.ConfigurationBuilderHolder;
+import org.infinispan.configuration.parsing.ParserRegistry;
+import org.infinispan.eviction.EvictionType;
 import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.persistence.sifs.configuration.SoftIndexFileStoreConfigurationBuilder;
 import org.infinispan.protostream.FileDescriptorSource;
 import org.infinispan.protostream.SerializationContext;
 import org.infinispan.server.hotrod.HotRodServer;
 import org.infinispan.server.hotrod.configuration.HotRodServerConfigurationBuilder;
+import org.infinispan.transaction.LockingMode;
+import org.infinispan.transaction.TransactionProtocol;
 import org.infinispan.util.concurrent.IsolationLevel;
 import org.yardstickframework.BenchmarkConfiguration;
 import org.yardstickframework.BenchmarkServer;
 import org.yardstickframework.BenchmarkUtils;
+import org.yardstickframework.infinispan.model.PayloadValueExternalizer;
+import org.yardstickframework.infinispan.model.PersonExternalizer;
+import org.yardstickframework.infinispan.model.SampleValueExternalizer;
 import org.yardstickframework.infinispan.protobuf.PersonMarshaller;
 import org.yardstickframework.infinispan.protobuf.PersonProtobuf;
 
@@ -47,6 +63,9 @@ import static org.yardstickframework.BenchmarkUtils.println;
  * Standalone Infinispan node.
  */
 public class InfinispanNode implements BenchmarkServer {
+    /** Whether logging is configured, several nodes can be started in one JVM. */
+    private static boolean logConfigured;
+
     /** */
     private BasicCacheContainer cacheMgr;
 
@@ -59,6 +78,9 @@ public class InfinispanNode implements BenchmarkServer {
     /** */
     private boolean qryEnabled;
 
+    /** Cache store and index directory of this node, {@code null} if neither is stored on disk. */
+    private File workDir;
+
     /** */
     public InfinispanNode() {
         // No-op.
@@ -91,6 +113,11 @@ public class InfinispanNode implements BenchmarkServer {
                 new org.infinispan.client.hotrod.configuration.ConfigurationBuilder().
                     addServers(nodesAddrs.replace(",", ";"));
 
+            builder.nearCache().mode(args.nearCacheMode()).maxEntries(args.nearCacheMaxEntries());
+
+            println(cfg, "HotRod client near cache [mode=" + args.nearCacheMode() +
+                ", maxEntries=" + args.nearCacheMaxEntries() + ']');
+
             RemoteCacheManager rmtCacheMgr;
 
             if (qryEnabled) {
@@ -116,19 +143,46 @@ public class InfinispanNode implements BenchmarkServer {
             cacheMgr = rmtCacheMgr;
         }
         else {
-            System.setProperty("jgroups.tcpping.initial_hosts", addressesWithPorts(nodesAddrs));
+            System.setProperty("jgroups.stack", args.jgroupsStack());
+            System.setProperty("jgroups.bundler", args.jgroupsBundler());
+            System.setProperty("jgroups.tcp.port", String.valueOf(args.basePort()));
+            System.setProperty("jgroups.tcpping.initial_hosts", addressesWithPorts(nodesAddrs, args.basePort()));
+
+            // Several nodes of one host bind consecutive ports starting from base port.
+            System.setProperty("jgroups.tcpping.port_range", String.valueOf(Math.max(args.nodes(), 5)));
 
             if (nodesAddrs.contains("localhost") || nodesAddrs.contains("127.0.0.1"))
                 System.setProperty("jgroups.bind_addr", "localhost");
 
-            DefaultCacheManager cacheMgr = new DefaultCacheManager(args.configuration());
+            if (args.persistence() != PersistenceMode.NONE || args.indexDirectory() == IndexDirectory.FILESYSTEM)
+                workDir = new File(args.persistenceDirectory(), UUID.randomUUID().toString());
+
+            ConfigurationBuilderHolder holder = new ParserRegistry().parseFile(args.configuration());
+
+            // Several nodes can be started in one JVM.
+            holder.getGlobalConfigurationBuilder().globalJmxStatistics().allowDuplicateDomains(true);
+
+            if (args.advancedExternalizers()) {
+                holder.getGlobalConfigurationBuilder().serialization().
+                    addAdvancedExternalizer(new SampleValueExternalizer(), new PayloadValueExternalizer(),
+                        new PersonExternalizer());
+
+                println(cfg, "Registered advanced externalizers [SampleValue=" + SampleValueExternalizer.ID +
+                    ", PayloadValue=" + PayloadValueExternalizer.ID + ", Person=" + PersonExternalizer.ID + ']');
+            }
+
+            DefaultCacheManager cacheMgr = new DefaultCacheManager(holder, true);
 
             initCache(args, "cache", cacheMgr, cfg);
 
             initCache(args, "transactional", cacheMgr, cfg);
 
+            initCache(args, "orgTransactional", cacheMgr, cfg);
+
             initCache(args, "queryCache", cacheMgr, cfg);
 
+            initCache(args, "fullTextCache", cacheMgr, cfg);
+
             this.cacheMgr = cacheMgr;
 
             if (args.clientMode())
@@ -181,9 +235,37 @@ public class InfinispanNode implements BenchmarkServer {
 
         ConfigurationBuilder cfgBuilder = new ConfigurationBuilder().read(cfg);
 
-        cfgBuilder.clustering().cacheMode(args.async() ? CacheMode.DIST_ASYNC : CacheMode.DIST_SYNC);
+        switch (args.cacheMode()) {
+            case DIST:
+            case DIST_L1:
+                cfgBuilder.clustering().cacheMode(args.async() ? CacheMode.DIST_ASYNC : CacheMode.DIST_SYNC);
+
+                cfgBuilder.clustering().hash().numOwners(args.backups() + 1);
+
+                if (args.cacheMode() == ClusteringMode.DIST_L1)
+                    cfgBuilder.clustering().l1().enable().lifespan(args.l1Lifespan());
+
+                break;
+
+            case REPL:
+                cfgBuilder.clustering().cacheMode(args.async() ? CacheMode.REPL_ASYNC : CacheMode.REPL_SYNC);
+
+                break;
+
+            case INVALIDATION:
+                cfgBuilder.clustering().cacheMode(args.async() ? CacheMode.INVALIDATION_ASYNC :
+                    CacheMode.INVALIDATION_SYNC);
+
+                break;
+
+            case LOCAL:
+                cfgBuilder.clustering().cacheMode(CacheMode.LOCAL);
 
-        cfgBuilder.clustering().hash().numOwners(args.backups() + 1);
+                break;
+
+            default:
+                throw new IllegalStateException("Unknown cache mode: " + args.cacheMode());
+        }
 
         // HotRodServer can not start if REPEATABLE_READ is set.
         if (!args.clientMode()) {
@@ -196,15 +278,188 @@ public class InfinispanNode implements BenchmarkServer {
 
         cfgBuilder.transaction().lockingMode(args.txConcurrency());
 
+        // HotRod client does not support transactions.
+        if (!args.clientMode() && cfg.transaction().transactionMode().isTransactional()) {
+            if (args.txProtocol() == TransactionProtocol.TOTAL_ORDER)
+                initTotalOrder(args, cacheName, cfgBuilder, bcfg);
+            else if (args.writeSkewCheck()) {
+                if (args.txConcurrency() == LockingMode.OPTIMISTIC &&
+                    args.txIsolation() == IsolationLevel.REPEATABLE_READ) {
+                    cfgBuilder.locking().writeSkewCheck(true);
+
+                    cfgBuilder.versioning().enable().scheme(VersioningScheme.SIMPLE);
+                }
+                else
+                    println(bcfg, "[WARNING] Write skew check requires OPTIMISTIC transactions with " +
+                        "REPEATABLE_READ isolation, ignoring it [cache=" + cacheName + "].");
+            }
+        }
+
+        boolean storeAsBinary = args.storeAsBinary();
+
+        if (args.evictionSize() > 0) {
+            cfgBuilder.eviction().strategy(args.evictionStrategy()).type(args.evictionType()).size(args.evictionSize());
+
+            // Statistics are needed to report eviction rate.
+            cfgBuilder.jmxStatistics().enable();
+
+            if (args.evictionType() == EvictionType.MEMORY && !storeAsBinary) {
+                println(bcfg, "[WARNING] Memory based eviction requires storing entries in binary form, " +
+                    "enabling store as binary.");
+
+                storeAsBinary = true;
+            }
+        }
+
+        if (storeAsBinary)
+            cfgBuilder.storeAsBinary().enable().storeKeysAsBinary(true).storeValuesAsBinary(true);
+
+        if (args.persistence() != PersistenceMode.NONE)
+            initStore(args, cacheName, cfgBuilder.persistence(), bcfg);
+
+        if (cfg.indexing().index().isEnabled())
+            initIndexing(args, cacheName, cfgBuilder.indexing(), bcfg);
+
         cacheMgr.defineConfiguration(cacheName, cfgBuilder.build());
 
         Cache<Object, Object> cache = cacheMgr.getCache(cacheName);
 
         Configuration ccfg = cache.getCacheConfiguration();
 
-        println(bcfg, "Started cache [name=" + cacheName + ", txMode=" + ccfg.transaction().transactionMode()
+        println(bcfg, "Started cache [name=" + cacheName + ", cacheMode=" + ccfg.clustering().cacheMode() +
+            ", l1=" + ccfg.clustering().l1().enabled() + ", txMode=" + ccfg.transaction().transactionMode()
             + ", lockingMode=" + ccfg.transaction().lockingMode() + ", isolationMode="
-            + ccfg.locking().isolationLevel() + ", indexing=" + ccfg.indexing().index() + ", fullCacheCfg=" + ccfg);
+            + ccfg.locking().isolationLevel() + ", indexing=" + ccfg.indexing().index() + ", storeAsBinary="
+            + ccfg.storeAsBinary().enabled() + ", eviction=" + ccfg.eviction().strategy() + ", fullCacheCfg=" + ccfg);
+    }
+
+    /**
+     * @param args Arguments.
+     * @param cacheName Cache name.
+     * @param builder Persistence configuration builder.
+     * @param bcfg Benchmark configuration.
+     */
+    private void initStore(
+        InfinispanBenchmarkArguments args,
+        String cacheName,
+        PersistenceConfigurationBuilder builder,
+        BenchmarkConfiguration bcfg
+    ) {
+        File dir = new File(workDir, cacheName);
+
+        builder.passivation(args.passivation());
+
+        StoreConfigurationBuilder<?, ?> storeBuilder;
+
+        switch (args.persistence()) {
+            case FILE:
+                storeBuilder = builder.addSingleFileStore().location(dir.getPath());
+
+                break;
+
+            case SOFT_INDEX:
+                storeBuilder = builder.addStore(SoftIndexFileStoreConfigurationBuilder.class).
+                    dataLocation(new File(dir, "data").getPath()).
+                    indexLocation(new File(dir, "index").getPath());
+
+                break;
+
+            default:
+                throw new IllegalStateException("Unknown persistence mode: " + args.persistence());
+        }
+
+        storeBuilder.purgeOnStartup(true);
+
+        if (args.writeBehind())
+            storeBuilder.async().enable().modificationQueueSize(args.writeBehindQueueSize());
+
+        println(bcfg, "Cache store [cache=" + cacheName + ", mode=" + args.persistence() + ", dir=" + dir +
+            ", writeBehind=" + args.writeBehind() + ", passivation=" + args.passivation() + ']');
+    }
+
+    /**
+     * Total order protocol requires optimistic locking, and write skew check with versioning
+     * for {@code REPEATABLE_READ} isolation, these settings override {@code -txc} and {@code -txi} options.
+     *
+     * @param args Arguments.
+     * @param cacheName Cache name.
+     * @param builder Configuration builder.
+     * @param bcfg Benchmark configuration.
+     */
+    private void initTotalOrder(
+        InfinispanBenchmarkArguments args,
+        String cacheName,
+        ConfigurationBuilder builder,
+        BenchmarkConfiguration bcfg
+    ) {
+        builder.transaction().transactionProtocol(TransactionProtocol.TOTAL_ORDER).
+            lockingMode(LockingMode.OPTIMISTIC).recovery().disable();
+
+        builder.locking().isolationLevel(IsolationLevel.REPEATABLE_READ).writeSkewCheck(true);
+
+        builder.versioning().enable().scheme(VersioningScheme.SIMPLE);
+
+        println(bcfg, "Total order transactions [cache=" + cacheName + ", txConcurrency=" + LockingMode.OPTIMISTIC +
+            ", txIsolation=" + IsolationLevel.REPEATABLE_READ + "], make sure JGroups stack contains TOA protocol.");
+    }
+
+    /**
+     * @param args Arguments.
+     * @param cacheName Cache name.
+     * @param builder Indexing configuration builder.
+     * @param bcfg Benchmark configuration.
+     */
+    private void initIndexing(
+        InfinispanBenchmarkArguments args,
+        String cacheName,
+        IndexingConfigurationBuilder builder,
+        BenchmarkConfiguration bcfg
+    ) {
+        switch (args.indexDirectory()) {
+            case DEFAULT:
+                break;
+
+            case RAM:
+                builder.addProperty("default.directory_provider", "ram");
+
+                break;
+
+            case FILESYSTEM:
+                builder.addProperty("default.directory_provider", "filesystem");
+                builder.addProperty("default.indexBase", new File(workDir, "index-" + cacheName).getPath());
+
+                break;
+
+            case INFINISPAN:
+                // Shared index is updated by primary owners only, index manager forwards updates to
+                // the node holding index write lock.
+                builder.index(Index.LOCAL);
+                builder.addProperty("default.directory_provider", "infinispan");
+                builder.addProperty("default.indexmanager", "org.infinispan.query.indexmanager.InfinispanIndexManager");
+
+                break;
+
+            default:
+                throw new IllegalStateException("Unknown index directory: " + args.indexDirectory());
+        }
+
+        if (args.indexAsync())
+            builder.addProperty("default.worker.execution", "async");
+
+        if (args.indexNrt()) {
+            if (args.indexDirectory() == IndexDirectory.INFINISPAN)
+                println(bcfg, "[WARNING] Near-real-time index manager is ignored for shared Infinispan index.");
+            else
+                builder.addProperty("default.indexmanager", "near-real-time");
+        }
+
+        if (args.indexReaderRefresh() > 0) {
+            builder.addProperty("default.reader.strategy", "async");
+            builder.addProperty("default.reader.async_refresh_period_ms", String.valueOf(args.indexReaderRefresh()));
+        }
+
+        println(bcfg, "Indexing [cache=" + cacheName + ", directory=" + args.indexDirectory() + ", async=" +
+            args.indexAsync() + ", nrt=" + args.indexNrt() + ", readerRefresh=" + args.indexReaderRefresh() + ']');
     }
 
     /**
@@ -242,7 +497,12 @@ public class InfinispanNode implements BenchmarkServer {
     }
 
     /** */
-    private static void configureLogging() {
+    private static synchronized void configureLogging() {
+        if (logConfigured)
+            return;
+
+        logConfigured = true;
+
         Logger rootLog = Logger.getRootLogger();
 
         PatternLayout layout = new PatternLayout("[%d{dd-MM-yyyy HH:mm:ss}][%-5p][%t][%c{1}] %m%n");
@@ -258,6 +518,23 @@ public class InfinispanNode implements BenchmarkServer {
 
         if (hotRodSrv != null)
             hotRodSrv.stop();
+
+        if (workDir != null)
+            delete(workDir);
+    }
+
+    /**
+     * @param file File or directory to delete recursively.
+     */
+    private static void delete(File file) {
+        File[] files = file.listFiles();
+
+        if (files != null) {
+            for (File f : files)
+                delete(f);
+        }
+
+        file.delete();
     }
 
     /** {@inheritDoc} */
@@ -272,15 +549,23 @@ public class InfinispanNode implements BenchmarkServer {
         return cacheMgr;
     }
 
+    /**
+     * @return Cache store and index directory of this node, {@code null} if neither is stored on disk.
+     */
+    public File workDirectory() {
+        return workDir;
+    }
+
     /**
      * @param nodesAddresses Addresses.
+     * @param port Port.
      * @return Nodes addresses.
      */
-    private static String addressesWithPorts(String nodesAddresses) {
+    private static String addressesWithPorts(String nodesAddresses, int port) {
         StringBuilder sb = new StringBuilder();
 
         for (String s : nodesAddresses.split(","))
-            sb.append(s).append("[7800]").append(",");
+            sb.append(s).append('[').append(port).append("],");
 
         if (sb.length() > 0)
             sb.delete(sb.length() - 1, sb.length());
@@ -0,0 +1,152 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.infinispan.Cache;
+import org.yardstickframework.BenchmarkConfiguration;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Infinispan benchmark that performs get and put operations on cache with cache store configured
+ * by {@code -ps} option. Periodically reports number of entries in memory, bytes written to disk by this process
+ * and size of store directory of this node. Store itself is not scanned, since counting its entries would
+ * disturb measured operations, and write-behind queue depth is not exposed by Infinispan.
+ */
+public class InfinispanPersistentPutGetBenchmark extends InfinispanAbstractBenchmark {
+    /** Statistics report interval in seconds. */
+    private static final long REPORT_INTERVAL = 10;
+
+    /** Linux per-process I/O statistics. */
+    private static final String PROC_IO = "/proc/self/io";
+
+    /** */
+    private ScheduledExecutorService reporter;
+
+    /** */
+    private long startWriteBytes;
+
+    /** {@inheritDoc} */
+    @Override public void setUp(BenchmarkConfiguration cfg) throws Exception {
+        super.setUp(cfg);
+
+        if (args.clientMode())
+            throw new IllegalStateException("Cache store statistics are not available in client mode.");
+
+        if (args.persistence() == PersistenceMode.NONE)
+            println(cfg, "[WARNING] Cache store is disabled, use '-ps' option to enable it.");
+
+        startWriteBytes = writeBytes();
+
+        reporter = Executors.newSingleThreadScheduledExecutor();
+
+        reporter.scheduleAtFixedRate(new Runnable() {
+            @Override public void run() {
+                printStoreStatistics();
+            }
+        }, REPORT_INTERVAL, REPORT_INTERVAL, TimeUnit.SECONDS);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
+        int key = nextRandom(args.range());
+
+        if (ThreadLocalRandom.current().nextInt(100) < args.writePercent())
+            cache.put(key, sampleValue(key));
+        else
+            cache.get(key);
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void tearDown() throws Exception {
+        if (reporter != null) {
+            reporter.shutdownNow();
+
+            printStoreStatistics();
+        }
+
+        super.tearDown();
+    }
+
+    /** */
+    private void printStoreStatistics() {
+        try {
+            long memSize = ((Cache<?, ?>)cache).getAdvancedCache().getDataContainer().sizeIncludingExpired();
+
+            long written = writeBytes();
+
+            File workDir = node().workDirectory();
+
+            println(cfg, "Cache store statistics [memEntries=" + memSize +
+                ", diskBytesWritten=" + (written < 0 ? "n/a" : written - startWriteBytes) +
+                ", storeDirBytes=" + (workDir == null ? "n/a" : size(workDir)) + ']');
+        }
+        catch (Exception e) {
+            println(cfg, "Failed to collect cache store statistics: " + e);
+        }
+    }
+
+    /**
+     * @return Bytes written to storage by this process or {@code -1} if not supported by OS.
+     */
+    private static long writeBytes() {
+        try {
+            for (String line : Files.readAllLines(Paths.get(PROC_IO), StandardCharsets.US_ASCII)) {
+                if (line.startsWith("write_bytes:"))
+                    return Long.parseLong(line.substring("write_bytes:".length()).trim());
+            }
+        }
+        catch (IOException | NumberFormatException ignore) {
+            // No-op.
+        }
+
+        return -1;
+    }
+
+    /**
+     * @param file File or directory.
+     * @return Total size of files.
+     */
+    private static long size(File file) {
+        File[] files = file.listFiles();
+
+        if (files == null)
+            return file.length();
+
+        long size = 0;
+
+        for (File f : files)
+            size += size(f);
+
+        return size;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected String cacheName() {
+        return "cache";
+    }
+}
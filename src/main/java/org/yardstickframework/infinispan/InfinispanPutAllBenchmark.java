@@ -16,24 +16,22 @@ package org.yardstickframework.infinispan;
 
 import java.util.Map;
 import java.util.SortedMap;
-import java.util.TreeMap;
+import org.yardstickframework.infinispan.probes.Phase;
 
 /**
  * Infinispan benchmark that performs put operations.
  */
 public class InfinispanPutAllBenchmark extends InfinispanAbstractBenchmark {
     /** {@inheritDoc} */
-    @Override public boolean test(Map<Object, Object> ctx) throws Exception {
-        SortedMap<Integer, Integer> vals = new TreeMap<>();
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
+        SortedMap<Integer, Integer> vals = nextBatch();
 
-        for (int i = 0; vals.size() < args.batch(); i++) {
-            int key = nextRandom(args.range());
-
-            vals.put(key, key);
-        }
+        long start = phases.start();
 
         cache.putAll(vals);
 
+        phases.record(Phase.PUT, start);
+
         return true;
     }
 
@@ -16,10 +16,10 @@ package org.yardstickframework.infinispan;
 
 import java.util.Map;
 import java.util.SortedMap;
-import java.util.TreeMap;
 import javax.transaction.TransactionManager;
 import org.infinispan.Cache;
 import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.infinispan.probes.Phase;
 
 /**
  * Infinispan benchmark that performs transactional put operations.
@@ -39,24 +39,28 @@ public class InfinispanPutAllTxBenchmark extends InfinispanAbstractBenchmark {
     }
 
     /** {@inheritDoc} */
-    @Override public boolean test(Map<Object, Object> ctx) throws Exception {
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
         TransactionManager tm = ((Cache)cache).getAdvancedCache().getTransactionManager();
 
+        long start = phases.start();
+
         tm.begin();
 
-        try {
-            SortedMap<Integer, Integer> vals = new TreeMap<>();
+        phases.record(Phase.BEGIN, start);
 
-            for (int i = 0; vals.size() < args.batch(); i++) {
-                int key = nextRandom(args.range());
+        try {
+            SortedMap<Integer, Integer> vals = nextBatch();
 
-                vals.put(key, key);
-            }
+            start = phases.start();
 
             cache.putAll(vals);
 
+            start = phases.record(Phase.PUT, start);
+
             tm.commit();
 
+            phases.record(Phase.COMMIT, start);
+
             tm = null;
         }
         finally {
@@ -15,17 +15,21 @@
 package org.yardstickframework.infinispan;
 
 import java.util.Map;
-import org.yardstickframework.infinispan.model.SampleValue;
+import org.yardstickframework.infinispan.probes.Phase;
 
 /**
  * Infinispan benchmark that performs put operations.
  */
 public class InfinispanPutBenchmark extends InfinispanAbstractBenchmark {
     /** {@inheritDoc} */
-    @Override public boolean test(Map<Object, Object> ctx) throws Exception {
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
         int key = nextRandom(args.range());
 
-        cache.put(key, new SampleValue(key));
+        long start = phases.start();
+
+        cache.put(key, sampleValue(key));
+
+        phases.record(Phase.PUT, start);
 
         return true;
     }
@@ -15,22 +15,28 @@
 package org.yardstickframework.infinispan;
 
 import java.util.Map;
-import org.yardstickframework.infinispan.model.SampleValue;
+import org.yardstickframework.infinispan.probes.Phase;
 
 /**
  * Infinispan benchmark that performs put and get operations.
  */
 public class InfinispanPutGetBenchmark extends InfinispanAbstractBenchmark {
     /** {@inheritDoc} */
-    @Override public boolean test(Map<Object, Object> ctx) throws Exception {
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
         int key = nextRandom(args.range());
 
+        long start = phases.start();
+
         Object val = cache.get(key);
 
+        start = phases.record(Phase.GET, start);
+
         if (val != null)
             key = nextRandom(args.range());
 
-        cache.put(key, new SampleValue(key));
+        cache.put(key, sampleValue(key));
+
+        phases.record(Phase.PUT, start);
 
         return true;
     }
@@ -18,7 +18,7 @@ import java.util.Map;
 import javax.transaction.TransactionManager;
 import org.infinispan.Cache;
 import org.yardstickframework.BenchmarkConfiguration;
-import org.yardstickframework.infinispan.model.SampleValue;
+import org.yardstickframework.infinispan.probes.Phase;
 
 /**
  * Infinispan benchmark that performs transactional put operations.
@@ -38,17 +38,25 @@ public class InfinispanPutTxBenchmark extends InfinispanAbstractBenchmark {
     }
 
     /** {@inheritDoc} */
-    @Override public boolean test(Map<Object, Object> ctx) throws Exception {
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
         int key = nextRandom(args.range());
 
         TransactionManager tm = ((Cache)cache).getAdvancedCache().getTransactionManager();
 
+        long start = phases.start();
+
         tm.begin();
 
+        start = phases.record(Phase.BEGIN, start);
+
         try {
-            cache.put(key, new SampleValue(key));
+            cache.put(key, sampleValue(key));
+
+            start = phases.record(Phase.PUT, start);
 
             tm.commit();
+
+            phases.record(Phase.COMMIT, start);
         }
         finally {
             if (tm != null)
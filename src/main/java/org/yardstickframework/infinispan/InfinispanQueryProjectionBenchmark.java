@@ -0,0 +1,118 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.util.List;
+import java.util.Map;
+import org.infinispan.Cache;
+import org.infinispan.query.Search;
+import org.infinispan.query.dsl.Expression;
+import org.infinispan.query.dsl.Query;
+import org.infinispan.query.dsl.QueryFactory;
+import org.infinispan.query.dsl.SortOrder;
+import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.infinispan.model.Person;
+import org.yardstickframework.infinispan.probes.Phase;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Infinispan benchmark that queries persons in random salary range and returns results in the shape
+ * selected by {@link InfinispanBenchmarkArguments#queryMode()}: whole entities, projection of stored fields,
+ * salaries aggregated by organization, or ordered page of entities.
+ */
+public class InfinispanQueryProjectionBenchmark extends InfinispanSqlQueryBenchmark {
+    /** {@inheritDoc} */
+    @Override public void setUp(BenchmarkConfiguration cfg) throws Exception {
+        super.setUp(cfg);
+
+        println(cfg, "Query mode: " + args.queryMode());
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
+        int window = salaryWindow();
+
+        double[] salaries = nextSalaryRange();
+
+        double minSalary = salaries[0];
+        double maxSalary = salaries[1];
+
+        QueryFactory qf = Search.getQueryFactory((Cache<Object, Object>)cache);
+
+        Query qry;
+
+        int maxRes;
+
+        switch (args.queryMode()) {
+            case ENTITY:
+                qry = qf.from(Person.class).
+                    having("salary").between(minSalary, maxSalary).toBuilder().
+                    build();
+
+                maxRes = window + 1;
+
+                break;
+
+            case PROJECTION:
+                qry = qf.from(Person.class).
+                    select("id", "orgId", "salary").
+                    having("salary").between(minSalary, maxSalary).toBuilder().
+                    build();
+
+                maxRes = window + 1;
+
+                break;
+
+            case GROUP_BY:
+                qry = qf.from(Person.class).
+                    select(Expression.property("orgId"), Expression.sum("salary"), Expression.avg("salary")).
+                    having("salary").between(minSalary, maxSalary).toBuilder().
+                    groupBy("orgId").
+                    build();
+
+                maxRes = args.organizations();
+
+                break;
+
+            case ORDER_PAGE:
+                qry = qf.from(Person.class).
+                    having("salary").between(minSalary, maxSalary).toBuilder().
+                    orderBy("salary", SortOrder.DESC).
+                    startOffset(nextRandom(Math.max(window - args.pageSize(), 1))).
+                    maxResults(args.pageSize()).
+                    build();
+
+                maxRes = args.pageSize();
+
+                break;
+
+            default:
+                throw new IllegalStateException("Unknown query mode: " + args.queryMode());
+        }
+
+        long start = phases.start();
+
+        List<?> res = qry.list();
+
+        phases.record(Phase.QUERY, start);
+
+        if (res.size() > maxRes)
+            throw new Exception("Invalid number of results [mode=" + args.queryMode() + ", expected<=" + maxRes +
+                ", actual=" + res.size() + ']');
+
+        return true;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import javax.transaction.RollbackException;
+import javax.transaction.TransactionManager;
+import org.infinispan.AdvancedCache;
+import org.infinispan.Cache;
+import org.infinispan.commons.api.functional.EntryView.ReadWriteEntryView;
+import org.infinispan.commons.api.functional.FunctionalMap.ReadWriteMap;
+import org.infinispan.functional.impl.FunctionalMapImpl;
+import org.infinispan.functional.impl.ReadWriteMapImpl;
+import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.infinispan.probes.Phase;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Infinispan benchmark that increments counters. Depending on {@link InfinispanBenchmarkArguments#rmwMode()}
+ * increment is done with functional API in a single remote call, with get and put operations or with get
+ * and put operations inside transaction. Use small key range to get high contention.
+ */
+public class InfinispanReadModifyWriteBenchmark extends InfinispanAbstractBenchmark {
+    /** */
+    private ReadWriteMap<Object, Object> rwMap;
+
+    /** Number of rolled back transactions. */
+    private final LongAdder rollbacks = new LongAdder();
+
+    /** {@inheritDoc} */
+    @Override public void setUp(BenchmarkConfiguration cfg) throws Exception {
+        super.setUp(cfg);
+
+        if (args.clientMode())
+            throw new IllegalStateException("HotRod Client does not support functional API and transactions.");
+
+        if (args.rmwMode() == ReadModifyWriteMode.FUNCTIONAL) {
+            AdvancedCache<Object, Object> c = ((Cache<Object, Object>)cache).getAdvancedCache();
+
+            rwMap = ReadWriteMapImpl.create(FunctionalMapImpl.create(c));
+        }
+
+        println(cfg, "Read-modify-write mode: " + args.rmwMode());
+    }
+
+    /** {@inheritDoc} */
+    @Override protected String cacheName() {
+        return args.rmwMode() == ReadModifyWriteMode.TX ? "transactional" : "cache";
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
+        int key = nextRandom(args.range());
+
+        switch (args.rmwMode()) {
+            case FUNCTIONAL: {
+                long start = phases.start();
+
+                rwMap.eval(key, Increment.INSTANCE).get();
+
+                phases.record(Phase.PUT, start);
+
+                break;
+            }
+
+            case GET_PUT: {
+                long start = phases.start();
+
+                Object val = cache.get(key);
+
+                start = phases.record(Phase.GET, start);
+
+                cache.put(key, increment(val));
+
+                phases.record(Phase.PUT, start);
+
+                break;
+            }
+
+            case TX: {
+                TransactionManager tm = ((Cache)cache).getAdvancedCache().getTransactionManager();
+
+                long start = phases.start();
+
+                tm.begin();
+
+                start = phases.record(Phase.BEGIN, start);
+
+                try {
+                    Object val = cache.get(key);
+
+                    start = phases.record(Phase.GET, start);
+
+                    cache.put(key, increment(val));
+
+                    start = phases.record(Phase.PUT, start);
+
+                    tm.commit();
+
+                    phases.record(Phase.COMMIT, start);
+
+                    tm = null;
+                }
+                catch (RollbackException ignore) {
+                    rollbacks.increment();
+
+                    tm = null;
+                }
+                finally {
+                    if (tm != null)
+                        tm.rollback();
+                }
+
+                break;
+            }
+
+            default:
+                throw new IllegalStateException("Unknown read-modify-write mode: " + args.rmwMode());
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void tearDown() throws Exception {
+        if (args.rmwMode() == ReadModifyWriteMode.TX)
+            println(cfg, "Rolled back transactions: " + rollbacks.sum());
+
+        super.tearDown();
+    }
+
+    /**
+     * @param val Current counter value or {@code null}.
+     * @return Incremented counter value.
+     */
+    private static Long increment(Object val) {
+        return val == null ? 1L : (Long)val + 1;
+    }
+
+    /**
+     * Increments counter in place.
+     */
+    private static class Increment implements Function<ReadWriteEntryView<Object, Object>, Void>, Serializable {
+        /** */
+        private static final Increment INSTANCE = new Increment();
+
+        /** {@inheritDoc} */
+        @Override public Void apply(ReadWriteEntryView<Object, Object> view) {
+            view.set(increment(view.find().orElse(null)));
+
+            return null;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongBinaryOperator;
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.ClusteringConfiguration;
+import org.infinispan.topology.CacheTopology;
+import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.infinispan.probes.Phase;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Infinispan benchmark that performs get and put operations while an extra node started in the driver JVM
+ * joins and leaves the cluster every {@code -rbi} seconds. For every join and leave reports state transfer
+ * duration, throughput before and during state transfer and max operation latency during state transfer.
+ * Latency spikes and throughput dips are also visible in probe output for the same time.
+ */
+public class InfinispanRebalanceBenchmark extends InfinispanAbstractBenchmark {
+    /** Max time to wait for state transfer. */
+    private static final long REBALANCE_TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+
+    /** */
+    private final LongAdder ops = new LongAdder();
+
+    /** Max operation latency since last reset in nanoseconds. */
+    private final LongAccumulator maxLat = new LongAccumulator(new LongBinaryOperator() {
+        @Override public long applyAsLong(long left, long right) {
+            return Math.max(left, right);
+        }
+    }, 0);
+
+    /** */
+    private ExecutorService rebalancer;
+
+    /** Failure to start or stop extra node, fails the benchmark. */
+    private volatile Exception rebalanceErr;
+
+    /** Extra node, {@code null} if it is not started. */
+    private volatile InfinispanNode extraNode;
+
+    /** {@inheritDoc} */
+    @Override public void setUp(BenchmarkConfiguration cfg) throws Exception {
+        super.setUp(cfg);
+
+        if (args.clientMode())
+            throw new IllegalStateException("Rebalance benchmark is not supported in client mode.");
+
+        if (args.cacheMode() == ClusteringMode.LOCAL || args.cacheMode() == ClusteringMode.INVALIDATION)
+            throw new IllegalStateException("Rebalance benchmark requires distributed or replicated cache, " +
+                "state is not transferred for cache mode: " + args.cacheMode());
+
+        println(cfg, "Populating data...");
+
+        long start = System.nanoTime();
+
+        new InfinispanDataLoader(cfg, cache, args.preloadThreads(), args.preloadBatch()).load(args.range(),
+            new InfinispanDataLoader.ValueFactory() {
+                @Override public Object create(int key) {
+                    return sampleValue(key);
+                }
+            });
+
+        println(cfg, "Finished populating data in " + ((System.nanoTime() - start) / 1_000_000) + "ms.");
+
+        rebalancer = Executors.newSingleThreadExecutor();
+
+        rebalancer.submit(new Runnable() {
+            @Override public void run() {
+                try {
+                    while (!Thread.currentThread().isInterrupted()) {
+                        Thread.sleep(TimeUnit.SECONDS.toMillis(args.rebalanceInterval()));
+
+                        rebalance(true);
+
+                        Thread.sleep(TimeUnit.SECONDS.toMillis(args.rebalanceInterval()));
+
+                        rebalance(false);
+                    }
+                }
+                catch (InterruptedException ignore) {
+                    // No-op.
+                }
+                catch (Exception e) {
+                    println(cfg, "Failed to join or leave extra node: " + e);
+
+                    rebalanceErr = e;
+                }
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
+        checkRebalance();
+
+        int key = nextRandom(args.range());
+
+        long start = System.nanoTime();
+
+        if (ThreadLocalRandom.current().nextInt(100) < args.writePercent()) {
+            long phaseStart = phases.start();
+
+            cache.put(key, sampleValue(key));
+
+            phases.record(Phase.PUT, phaseStart);
+        }
+        else {
+            long phaseStart = phases.start();
+
+            cache.get(key);
+
+            phases.record(Phase.GET, phaseStart);
+        }
+
+        maxLat.accumulate(System.nanoTime() - start);
+
+        ops.increment();
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void tearDown() throws Exception {
+        if (rebalancer != null) {
+            rebalancer.shutdownNow();
+
+            rebalancer.awaitTermination(REBALANCE_TIMEOUT, TimeUnit.MILLISECONDS);
+        }
+
+        if (extraNode != null)
+            extraNode.stop();
+
+        super.tearDown();
+
+        checkRebalance();
+    }
+
+    /**
+     * @throws Exception If extra node failed to join or leave.
+     */
+    private void checkRebalance() throws Exception {
+        Exception e = rebalanceErr;
+
+        if (e != null)
+            throw new Exception("Failed to join or leave extra node, benchmark results are not valid.", e);
+    }
+
+    /**
+     * Starts or stops extra node and waits for state transfer to finish.
+     *
+     * @param join {@code True} to start extra node, {@code false} to stop it.
+     * @throws Exception If failed.
+     */
+    private void rebalance(boolean join) throws Exception {
+        int members = topology().getMembers().size() + (join ? 1 : -1);
+
+        long opsBefore = ops.sum();
+        long before = System.nanoTime();
+
+        // Throughput before state transfer is measured since previous join or leave.
+        long beforeSecs = Math.max(args.rebalanceInterval(), 1);
+
+        maxLat.reset();
+
+        println(cfg, (join ? "Starting" : "Stopping") + " extra node [members=" + members + ']');
+
+        if (join) {
+            InfinispanNode node = new InfinispanNode(false, false);
+
+            node.start(cfg);
+
+            extraNode = node;
+        }
+        else {
+            extraNode.stop();
+
+            extraNode = null;
+        }
+
+        long deadline = System.currentTimeMillis() + REBALANCE_TIMEOUT;
+
+        while (!rebalanced(members)) {
+            if (System.currentTimeMillis() > deadline) {
+                println(cfg, "[WARNING] State transfer is not finished in " + REBALANCE_TIMEOUT + "ms.");
+
+                break;
+            }
+
+            Thread.sleep(100);
+        }
+
+        long durNanos = System.nanoTime() - before;
+
+        long opsDuring = ops.sum() - opsBefore;
+
+        println(cfg, "State transfer finished [event=" + (join ? "JOIN" : "LEAVE") + ", members=" + members +
+            ", entries=" + args.range() + ", cacheMode=" + args.cacheMode() +
+            ", numOwners=" + numOwners(members) +
+            ", durationMs=" + TimeUnit.NANOSECONDS.toMillis(durNanos) +
+            ", opsPerSecBefore=" + opsBefore / beforeSecs +
+            ", opsPerSecDuring=" + opsDuring * TimeUnit.SECONDS.toNanos(1) / Math.max(durNanos, 1) +
+            ", maxLatencyUs=" + TimeUnit.NANOSECONDS.toMicros(maxLat.get()) + ']');
+
+        ops.reset();
+    }
+
+    /**
+     * @param members Expected number of members.
+     * @return {@code True} if topology has expected number of members and no rebalance is in progress.
+     */
+    private boolean rebalanced(int members) {
+        CacheTopology top = topology();
+
+        return top.getMembers().size() == members && top.getPendingCH() == null;
+    }
+
+    /**
+     * @param members Number of members.
+     * @return Effective number of owners of every entry.
+     */
+    private int numOwners(int members) {
+        ClusteringConfiguration clusterCfg = ((Cache<?, ?>)cache).getCacheConfiguration().clustering();
+
+        return clusterCfg.cacheMode().isReplicated() ? members : Math.min(clusterCfg.hash().numOwners(), members);
+    }
+
+    /**
+     * @return Current topology of benchmark cache.
+     */
+    private CacheTopology topology() {
+        return ((Cache<?, ?>)cache).getAdvancedCache().getComponentRegistry().getStateTransferManager().
+            getCacheTopology();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected String cacheName() {
+        return "cache";
+    }
+}
@@ -14,18 +14,17 @@
 
 package org.yardstickframework.infinispan;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.atomic.AtomicInteger;
-import org.infinispan.AdvancedCache;
 import org.infinispan.Cache;
-import org.infinispan.context.Flag;
 import org.infinispan.query.Search;
 import org.infinispan.query.dsl.Query;
 import org.infinispan.query.dsl.QueryFactory;
 import org.yardstickframework.BenchmarkConfiguration;
 import org.yardstickframework.infinispan.protobuf.PersonProtobuf;
 import org.yardstickframework.infinispan.model.Person;
+import org.yardstickframework.infinispan.probes.Phase;
 
 import static org.yardstickframework.BenchmarkUtils.println;
 
@@ -41,19 +40,13 @@ public class InfinispanSqlQueryBenchmark extends InfinispanAbstractBenchmark {
 
         long start = System.nanoTime();
 
-        final AtomicInteger cnt = new AtomicInteger();
-
-        // Populate persons.
-        final AdvancedCache<Integer, Object> cacheSkipIndexing = ((AdvancedCache)cache).withFlags(Flag.SKIP_INDEXING);
-
-        for (int i = 0; i < args.range() && !Thread.currentThread().isInterrupted(); i++) {
-            int populatedPersons = cnt.incrementAndGet();
-
-            cacheSkipIndexing.put(i, createPerson(i, "firstName" + i, "lastName" + i, i * 1000));
-
-            if (populatedPersons % 10_000 == 0)
-                println(cfg, "Populated persons: " + populatedPersons);
-        }
+        // Populate persons, indexing is skipped by loader.
+        new InfinispanDataLoader(cfg, cache, args.preloadThreads(), args.preloadBatch()).load(args.range(),
+            new InfinispanDataLoader.ValueFactory() {
+                @Override public Object create(int key) {
+                    return createPerson(key, "firstName" + key, "lastName" + key, key * 1000);
+                }
+            });
 
         println(cfg, "Indexing of populated data...");
 
@@ -70,8 +63,8 @@ public class InfinispanSqlQueryBenchmark extends InfinispanAbstractBenchmark {
     }
 
     /** {@inheritDoc} */
-    @Override public boolean test(Map<Object, Object> test) throws Exception {
-        double salary = ThreadLocalRandom.current().nextDouble() * args.range() * 1000;
+    @Override protected boolean test0(Map<Object, Object> test) throws Exception {
+        double salary = (nextRandom(args.range()) + ThreadLocalRandom.current().nextDouble()) * 1000;
 
         double maxSalary = salary + 1000;
 
@@ -79,7 +72,13 @@ public class InfinispanSqlQueryBenchmark extends InfinispanAbstractBenchmark {
 
         Query qry = qf.from(Person.class).having("salary").between(salary, maxSalary).toBuilder().build();
 
-        for (Person p : qry.<Person>list()) {
+        long start = phases.start();
+
+        List<Person> res = qry.list();
+
+        phases.record(Phase.QUERY, start);
+
+        for (Person p : res) {
             if (p.getSalary() < salary || p.getSalary() > maxSalary)
                 throw new Exception("Invalid person retrieved [min=" + salary + ", max=" + maxSalary +
                     ", person=" + p + ']');
@@ -89,21 +88,27 @@ public class InfinispanSqlQueryBenchmark extends InfinispanAbstractBenchmark {
     }
 
     /**
+     * Creates person, persons are evenly spread between {@link InfinispanBenchmarkArguments#organizations()}
+     * organizations.
+     *
      * @param id Id.
      * @param firstName First name.
      * @param lastName Last name.
      * @param salary Salary.
      * @return Person.
      */
-    private Object createPerson(int id, String firstName, String lastName, double salary) {
+    protected Object createPerson(int id, String firstName, String lastName, double salary) {
+        int orgId = id % args.organizations();
+
         if (args.clientMode())
             return PersonProtobuf.Person.newBuilder().
                 setId(id).
+                setOrdId(orgId).
                 setFirstName(firstName).
                 setLastName(lastName).
                 setSalary(salary).
                 build();
         else
-            return new Person(id, firstName, lastName, salary);
+            return new Person(id, orgId, firstName, lastName, salary);
     }
 }
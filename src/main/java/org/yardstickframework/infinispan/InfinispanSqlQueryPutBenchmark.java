@@ -14,6 +14,7 @@
 
 package org.yardstickframework.infinispan;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 import org.infinispan.Cache;
@@ -22,17 +23,18 @@ import org.infinispan.query.dsl.Query;
 import org.infinispan.query.dsl.QueryFactory;
 import org.yardstickframework.infinispan.protobuf.PersonProtobuf;
 import org.yardstickframework.infinispan.model.Person;
+import org.yardstickframework.infinispan.probes.Phase;
 
 /**
  * Infinispan benchmark that performs put and query operations.
  */
 public class InfinispanSqlQueryPutBenchmark extends InfinispanAbstractBenchmark {
     /** {@inheritDoc} */
-    @Override public boolean test(Map<Object, Object> test) throws Exception {
+    @Override protected boolean test0(Map<Object, Object> test) throws Exception {
         ThreadLocalRandom rnd = ThreadLocalRandom.current();
 
         if (rnd.nextBoolean()) {
-            double salary = rnd.nextDouble() * args.range() * 1000;
+            double salary = (nextRandom(args.range()) + rnd.nextDouble()) * 1000;
 
             double maxSalary = salary + 1000;
 
@@ -40,16 +42,26 @@ public class InfinispanSqlQueryPutBenchmark extends InfinispanAbstractBenchmark
 
             Query qry = qf.from(Person.class).having("salary").between(salary, maxSalary).toBuilder().build();
 
-            for (Person p : qry.<Person>list()) {
+            long start = phases.start();
+
+            List<Person> res = qry.list();
+
+            phases.record(Phase.QUERY, start);
+
+            for (Person p : res) {
                 if (p.getSalary() < salary || p.getSalary() > maxSalary)
                     throw new Exception("Invalid person retrieved [min=" + salary + ", max=" + maxSalary +
                             ", person=" + p + ']');
             }
         }
         else {
-            int i = rnd.nextInt(args.range());
+            int i = nextRandom(args.range());
+
+            long start = phases.start();
 
             cache.put(i, createPerson(i, "firstName" + i, "lastName" + i, i * 1000));
+
+            phases.record(Phase.PUT, start);
         }
 
         return true;
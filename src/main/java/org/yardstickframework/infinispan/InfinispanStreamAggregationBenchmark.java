@@ -0,0 +1,162 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.infinispan.Cache;
+import org.infinispan.CacheStream;
+import org.infinispan.query.Search;
+import org.infinispan.query.dsl.Expression;
+import org.infinispan.query.dsl.Query;
+import org.infinispan.query.dsl.QueryFactory;
+import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.infinispan.model.Person;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Infinispan benchmark that sums salaries of persons in random salary range grouped by organization.
+ * Depending on {@link InfinispanBenchmarkArguments#streamMode()} aggregation is done with distributed
+ * streams using parallel or sequential distribution, or with equivalent indexed query.
+ */
+public class InfinispanStreamAggregationBenchmark extends InfinispanSqlQueryBenchmark {
+    /** {@inheritDoc} */
+    @Override protected void checkArguments() throws Exception {
+        if (args.clientMode())
+            throw new IllegalStateException("HotRod Client does not support distributed streams.");
+    }
+
+    /** {@inheritDoc} */
+    @Override public void setUp(BenchmarkConfiguration cfg) throws Exception {
+        super.setUp(cfg);
+
+        println(cfg, "Aggregation mode: " + args.streamMode());
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
+        double[] salaries = nextSalaryRange();
+
+        double minSalary = salaries[0];
+        double maxSalary = salaries[1];
+
+        int groups;
+
+        if (args.streamMode() == StreamMode.QUERY) {
+            QueryFactory qf = Search.getQueryFactory((Cache<Object, Object>)cache);
+
+            Query qry = qf.from(Person.class).
+                select(Expression.property("orgId"), Expression.sum("salary")).
+                having("salary").between(minSalary, maxSalary).toBuilder().
+                groupBy("orgId").
+                build();
+
+            List<Object[]> res = qry.list();
+
+            groups = res.size();
+        }
+        else {
+            CacheStream<Map.Entry<Object, Object>> stream = ((Cache<Object, Object>)cache).entrySet().stream();
+
+            stream = args.streamMode() == StreamMode.SEQUENTIAL ?
+                stream.sequentialDistribution() : stream.parallelDistribution();
+
+            Map<Integer, Double> res = stream.
+                filter(new SalaryFilter(minSalary, maxSalary)).
+                collect(new SumSupplier(), new SumAccumulator(), new SumCombiner());
+
+            groups = res.size();
+        }
+
+        if (groups > args.organizations())
+            throw new Exception("Invalid number of groups [expected<=" + args.organizations() +
+                ", actual=" + groups + ']');
+
+        return true;
+    }
+
+    /**
+     * Filters persons by salary range.
+     */
+    private static class SalaryFilter implements Predicate<Map.Entry<Object, Object>>, Serializable {
+        /** */
+        private final double min;
+
+        /** */
+        private final double max;
+
+        /**
+         * @param min Min salary.
+         * @param max Max salary.
+         */
+        SalaryFilter(double min, double max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean test(Map.Entry<Object, Object> e) {
+            double salary = ((Person)e.getValue()).getSalary();
+
+            return salary >= min && salary <= max;
+        }
+    }
+
+    /**
+     * Creates salary sums container.
+     */
+    private static class SumSupplier implements Supplier<Map<Integer, Double>>, Serializable {
+        /** {@inheritDoc} */
+        @Override public Map<Integer, Double> get() {
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Adds person salary to organization sum.
+     */
+    private static class SumAccumulator implements BiConsumer<Map<Integer, Double>, Map.Entry<Object, Object>>,
+        Serializable {
+        /** {@inheritDoc} */
+        @Override public void accept(Map<Integer, Double> sums, Map.Entry<Object, Object> e) {
+            Person p = (Person)e.getValue();
+
+            Double sum = sums.get(p.getOrganizationId());
+
+            sums.put(p.getOrganizationId(), sum == null ? p.getSalary() : sum + p.getSalary());
+        }
+    }
+
+    /**
+     * Merges salary sums computed on different nodes.
+     */
+    private static class SumCombiner implements BiConsumer<Map<Integer, Double>, Map<Integer, Double>>,
+        Serializable {
+        /** {@inheritDoc} */
+        @Override public void accept(Map<Integer, Double> sums, Map<Integer, Double> other) {
+            for (Map.Entry<Integer, Double> e : other.entrySet()) {
+                Double sum = sums.get(e.getKey());
+
+                sums.put(e.getKey(), sum == null ? e.getValue() : sum + e.getValue());
+            }
+        }
+    }
+}
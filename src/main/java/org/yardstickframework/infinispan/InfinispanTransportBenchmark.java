@@ -0,0 +1,125 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.infinispan.Cache;
+import org.infinispan.remoting.transport.jgroups.JGroupsTransport;
+import org.jgroups.JChannel;
+import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.infinispan.probes.Phase;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Infinispan benchmark that performs put operations to load JGroups transport of the driver node.
+ * JGroups stack and bundler are selected by {@code -js} and {@code -jb} options, value size by {@code -vs}.
+ * Put latency is recorded as {@link Phase#PUT}, messages and bytes sent and received per second by
+ * the driver node channel are reported periodically.
+ */
+public class InfinispanTransportBenchmark extends InfinispanAbstractBenchmark {
+    /** Statistics report interval in seconds. */
+    private static final long REPORT_INTERVAL = 10;
+
+    /** */
+    private JChannel ch;
+
+    /** */
+    private ScheduledExecutorService reporter;
+
+    /** */
+    private long lastSentMsgs;
+
+    /** */
+    private long lastSentBytes;
+
+    /** */
+    private long lastRcvdMsgs;
+
+    /** */
+    private long lastRcvdBytes;
+
+    /** {@inheritDoc} */
+    @Override public void setUp(BenchmarkConfiguration cfg) throws Exception {
+        super.setUp(cfg);
+
+        if (args.clientMode())
+            throw new IllegalStateException("Transport statistics are not available in client mode.");
+
+        ch = (JChannel)((JGroupsTransport)((Cache<?, ?>)cache).getCacheManager().getTransport()).getChannel();
+
+        ch.setStats(true);
+
+        ch.resetStats();
+
+        println(cfg, "Transport [stack=" + args.jgroupsStack() + ", bundler=" + args.jgroupsBundler() +
+            ", protocols=" + ch.getProtocolStack().printProtocolSpec(false).replace('\n', ' ').trim() + ']');
+
+        reporter = Executors.newSingleThreadScheduledExecutor();
+
+        reporter.scheduleAtFixedRate(new Runnable() {
+            @Override public void run() {
+                printStatistics();
+            }
+        }, REPORT_INTERVAL, REPORT_INTERVAL, TimeUnit.SECONDS);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
+        int key = nextRandom(args.range());
+
+        long start = phases.start();
+
+        cache.put(key, sampleValue(key));
+
+        phases.record(Phase.PUT, start);
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void tearDown() throws Exception {
+        if (reporter != null)
+            reporter.shutdownNow();
+
+        super.tearDown();
+    }
+
+    /** */
+    private synchronized void printStatistics() {
+        long sentMsgs = ch.getSentMessages();
+        long sentBytes = ch.getSentBytes();
+        long rcvdMsgs = ch.getReceivedMessages();
+        long rcvdBytes = ch.getReceivedBytes();
+
+        println(cfg, "Transport statistics [sentMsgsPerSec=" + (sentMsgs - lastSentMsgs) / REPORT_INTERVAL +
+            ", sentBytesPerSec=" + (sentBytes - lastSentBytes) / REPORT_INTERVAL +
+            ", rcvdMsgsPerSec=" + (rcvdMsgs - lastRcvdMsgs) / REPORT_INTERVAL +
+            ", rcvdBytesPerSec=" + (rcvdBytes - lastRcvdBytes) / REPORT_INTERVAL + ']');
+
+        lastSentMsgs = sentMsgs;
+        lastSentBytes = sentBytes;
+        lastRcvdMsgs = rcvdMsgs;
+        lastRcvdBytes = rcvdBytes;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected String cacheName() {
+        return "cache";
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.transaction.RollbackException;
+import javax.transaction.TransactionManager;
+import org.infinispan.AdvancedCache;
+import org.infinispan.Cache;
+import org.infinispan.commons.CacheException;
+import org.infinispan.context.Flag;
+import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.infinispan.probes.Phase;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Infinispan benchmark that increments {@code -bs} counters in one transaction. Key contention is set by
+ * {@code -r} option, transaction protocol and locking by {@code -txpr} and {@code -txc} options. Committed
+ * and aborted (write skew, lock timeout or deadlock) transactions are counted after warmup and reported on
+ * tear down together with commit throughput. Counters are read with write lock, so pessimistic transactions
+ * serialize on them, optimistic ({@code -wsc}) and total order transactions rely on write skew check.
+ */
+public class InfinispanTxContentionBenchmark extends InfinispanAbstractBenchmark {
+    /** */
+    private final LongAdder commits = new LongAdder();
+
+    /** */
+    private final LongAdder aborts = new LongAdder();
+
+    /** Cache which locks keys on read. */
+    private AdvancedCache<Object, Object> lockCache;
+
+    /** Time when warmup ends and statistics collection starts. */
+    private long startTime;
+
+    /** {@inheritDoc} */
+    @Override public void setUp(BenchmarkConfiguration cfg) throws Exception {
+        super.setUp(cfg);
+
+        if (args.clientMode())
+            throw new IllegalStateException("HotRod Client does not support transactions.");
+
+        if (args.range() < args.batch())
+            throw new IllegalArgumentException("Key range must not be less than batch size [range=" +
+                args.range() + ", batch=" + args.batch() + ']');
+
+        println(cfg, "Transaction contention [protocol=" + args.txProtocol() + ", txConcurrency=" +
+            args.txConcurrency() + ", keys=" + args.range() + ", keysPerTx=" + args.batch() + ']');
+
+        lockCache = ((Cache<Object, Object>)cache).getAdvancedCache().withFlags(Flag.FORCE_WRITE_LOCK);
+
+        startTime = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(cfg.warmup());
+    }
+
+    /** {@inheritDoc} */
+    @Override protected String cacheName() {
+        return "transactional";
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean test0(Map<Object, Object> ctx) throws Exception {
+        // Keys are sorted, so pessimistic transactions do not deadlock.
+        Map<Integer, Integer> keys = nextBatch();
+
+        TransactionManager tm = ((Cache)cache).getAdvancedCache().getTransactionManager();
+
+        long start = phases.start();
+
+        tm.begin();
+
+        start = phases.record(Phase.BEGIN, start);
+
+        try {
+            for (Integer key : keys.keySet()) {
+                Long val = (Long)lockCache.get(key);
+
+                cache.put(key, val == null ? 1L : val + 1);
+            }
+
+            start = phases.record(Phase.PUT, start);
+
+            tm.commit();
+
+            phases.record(Phase.COMMIT, start);
+
+            if (measured())
+                commits.increment();
+
+            tm = null;
+        }
+        catch (RollbackException ignore) {
+            if (measured())
+                aborts.increment();
+
+            tm = null;
+        }
+        catch (CacheException ignore) {
+            // Lock acquisition timeout or deadlock, transaction is rolled back below.
+            if (measured())
+                aborts.increment();
+        }
+        finally {
+            if (tm != null)
+                tm.rollback();
+        }
+
+        return true;
+    }
+
+    /**
+     * @return {@code True} if warmup is finished.
+     */
+    private boolean measured() {
+        return System.currentTimeMillis() >= startTime;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void tearDown() throws Exception {
+        long c = commits.sum();
+        long a = aborts.sum();
+
+        long dur = Math.max(System.currentTimeMillis() - startTime, 1);
+
+        println(cfg, "Transaction statistics [protocol=" + args.txProtocol() + ", txConcurrency=" +
+            args.txConcurrency() + ", commits=" + c + ", aborts=" + a + ", abortRate=" +
+            (c + a == 0 ? 0 : a * 100 / (c + a)) + "%, commitsPerSec=" + c * 1000 / dur + ']');
+
+        super.tearDown();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Corpus of first and last names used to generate persons for full-text queries. Corpus file contains
+ * first names after {@code [first]} line and last names after {@code [last]} line, one name per line,
+ * lines starting with {@code #} are ignored. First and last names are combined so that every pair occurs
+ * with the same frequency.
+ */
+public class NameCorpus {
+    /** Default corpus of common English first names. */
+    private static final String[] DFLT_FIRST_NAMES = {
+        "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+        "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+        "Christopher", "Nancy", "Daniel", "Lisa", "Matthew", "Betty", "Anthony", "Margaret", "Mark", "Sandra"
+    };
+
+    /** Default corpus of common English last names. */
+    private static final String[] DFLT_LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Taylor", "Moore", "Jackson", "Martin", "Lee",
+        "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson", "Walker", "Young"
+    };
+
+    /** Header of first names section. */
+    private static final String FIRST_SECTION = "[first]";
+
+    /** Header of last names section. */
+    private static final String LAST_SECTION = "[last]";
+
+    /** */
+    private final String[] firstNames;
+
+    /** */
+    private final String[] lastNames;
+
+    /**
+     * @param path Path to corpus file or {@code null} to use default corpus.
+     * @throws IOException If failed to read corpus.
+     */
+    public NameCorpus(String path) throws IOException {
+        if (path == null) {
+            firstNames = DFLT_FIRST_NAMES;
+            lastNames = DFLT_LAST_NAMES;
+
+            return;
+        }
+
+        List<String> first = new ArrayList<>();
+        List<String> last = new ArrayList<>();
+
+        List<String> section = null;
+
+        for (String line : Files.readAllLines(Paths.get(path), StandardCharsets.UTF_8)) {
+            line = line.trim();
+
+            if (line.isEmpty() || line.startsWith("#"))
+                continue;
+
+            if (FIRST_SECTION.equalsIgnoreCase(line))
+                section = first;
+            else if (LAST_SECTION.equalsIgnoreCase(line))
+                section = last;
+            else if (section == null)
+                throw new IllegalArgumentException("Name corpus must start with " + FIRST_SECTION + " or " +
+                    LAST_SECTION + " section: " + path);
+            else
+                section.add(line);
+        }
+
+        if (first.isEmpty() || last.isEmpty())
+            throw new IllegalArgumentException("Name corpus must contain both first and last names [path=" + path +
+                ", firstNames=" + first.size() + ", lastNames=" + last.size() + ']');
+
+        firstNames = first.toArray(new String[first.size()]);
+        lastNames = last.toArray(new String[last.size()]);
+    }
+
+    /**
+     * @return Number of first names.
+     */
+    public int firstNames() {
+        return firstNames.length;
+    }
+
+    /**
+     * @return Number of last names.
+     */
+    public int lastNames() {
+        return lastNames.length;
+    }
+
+    /**
+     * @param id Person ID.
+     * @return First name of person.
+     */
+    public String firstName(int id) {
+        return firstNames[id % firstNames.length];
+    }
+
+    /**
+     * @param id Person ID.
+     * @return Last name of person.
+     */
+    public String lastName(int id) {
+        return lastNames[(id / firstNames.length) % lastNames.length];
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan;
+
+/**
+ * Execution mode of read-modify-write benchmarks.
+ */
+public enum ReadModifyWriteMode {
+    /** Single {@code ReadWriteMap.eval} call executed on the key owner. */
+    FUNCTIONAL,
+
+    /** Separate get and put operations, updates may be lost under contention. */
+    GET_PUT,
+
+    /** Get and put operations inside transaction. */
+    TX
+}
@@ -0,0 +1,54 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.keys;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Hotspot key generator, routes given fraction of operations to the hot set of keys
+ * at the beginning of the range.
+ */
+class HotspotKeyGenerator implements KeyGenerator {
+    /** */
+    private final int range;
+
+    /** */
+    private final int hotSetSize;
+
+    /** */
+    private final double hotOpFraction;
+
+    /**
+     * @param range Key range.
+     * @param hotSetFraction Fraction of keys in hot set.
+     * @param hotOpFraction Fraction of operations going to hot set.
+     */
+    HotspotKeyGenerator(int range, double hotSetFraction, double hotOpFraction) {
+        this.range = range;
+        this.hotOpFraction = hotOpFraction;
+
+        hotSetSize = Math.min(Math.max((int)(range * hotSetFraction), 1), range);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int next() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        if (hotSetSize == range || rnd.nextDouble() < hotOpFraction)
+            return rnd.nextInt(hotSetSize);
+
+        return hotSetSize + rnd.nextInt(range - hotSetSize);
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.keys;
+
+/**
+ * Key access distribution used by benchmark drivers.
+ */
+public enum KeyDistribution {
+    /** Every key in range is equally likely. */
+    UNIFORM,
+
+    /** Zipfian distribution, lower keys are the most popular ones. */
+    ZIPFIAN,
+
+    /** Fixed fraction of operations goes to fixed fraction of keys. */
+    HOTSPOT,
+
+    /** Keys are iterated sequentially by every thread, starting from random offset. */
+    SEQUENTIAL,
+
+    /** Zipfian distribution skewed towards the most recently visited sequential keys. */
+    LATEST
+}
@@ -0,0 +1,101 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.keys;
+
+import org.yardstickframework.infinispan.InfinispanBenchmarkArguments;
+
+/**
+ * Creates per-thread key generators for configured distribution. Constants that are expensive
+ * to compute are calculated once and shared between generators.
+ */
+public class KeyGeneratorFactory {
+    /** */
+    private final KeyDistribution dist;
+
+    /** */
+    private final int range;
+
+    /** */
+    private final double theta;
+
+    /** */
+    private final double hotSetFraction;
+
+    /** */
+    private final double hotOpFraction;
+
+    /** Zipfian zeta constant, {@code 0} if not used by the distribution. */
+    private final double zetan;
+
+    /**
+     * @param args Arguments.
+     */
+    public KeyGeneratorFactory(InfinispanBenchmarkArguments args) {
+        dist = args.keyDistribution();
+        range = args.range();
+        theta = args.zipfianTheta();
+        hotSetFraction = args.hotSetFraction();
+        hotOpFraction = args.hotOpFraction();
+
+        if (range <= 0)
+            throw new IllegalArgumentException("Key range must be positive: " + range);
+
+        if (dist == KeyDistribution.ZIPFIAN || dist == KeyDistribution.LATEST) {
+            if (theta <= 0 || theta >= 1)
+                throw new IllegalArgumentException("Zipfian theta must be in (0, 1) range: " + theta);
+
+            zetan = ZipfianKeyGenerator.zeta(range, theta);
+        }
+        else
+            zetan = 0;
+
+        if (dist == KeyDistribution.HOTSPOT && (hotSetFraction <= 0 || hotSetFraction > 1 ||
+            hotOpFraction < 0 || hotOpFraction > 1))
+            throw new IllegalArgumentException("Hotspot fractions must be in (0, 1] range [hotSetFraction=" +
+                hotSetFraction + ", hotOpFraction=" + hotOpFraction + ']');
+    }
+
+    /**
+     * @return New key generator to be used by a single thread.
+     */
+    public KeyGenerator create() {
+        switch (dist) {
+            case UNIFORM:
+                return new UniformKeyGenerator(range);
+
+            case ZIPFIAN:
+                return new ZipfianKeyGenerator(range, theta, zetan);
+
+            case HOTSPOT:
+                return new HotspotKeyGenerator(range, hotSetFraction, hotOpFraction);
+
+            case SEQUENTIAL:
+                return new SequentialKeyGenerator(range);
+
+            case LATEST:
+                return new LatestKeyGenerator(range, new ZipfianKeyGenerator(range, theta, zetan));
+
+            default:
+                throw new IllegalStateException("Unknown key distribution: " + dist);
+        }
+    }
+
+    /**
+     * @return Key range.
+     */
+    public int range() {
+        return range;
+    }
+}
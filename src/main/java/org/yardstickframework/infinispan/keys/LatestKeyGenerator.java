@@ -0,0 +1,48 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.keys;
+
+/**
+ * Latest key generator. Moves sequential cursor on every call and returns keys at zipfian distance
+ * behind it, so the most recently visited keys are the most popular ones.
+ */
+class LatestKeyGenerator implements KeyGenerator {
+    /** */
+    private final int range;
+
+    /** */
+    private final SequentialKeyGenerator cursor;
+
+    /** */
+    private final ZipfianKeyGenerator dist;
+
+    /**
+     * @param range Key range.
+     * @param dist Zipfian generator for distance from cursor.
+     */
+    LatestKeyGenerator(int range, ZipfianKeyGenerator dist) {
+        this.range = range;
+        this.dist = dist;
+
+        cursor = new SequentialKeyGenerator(range);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int next() {
+        int key = cursor.next() - dist.next();
+
+        return key < 0 ? key + range : key;
+    }
+}
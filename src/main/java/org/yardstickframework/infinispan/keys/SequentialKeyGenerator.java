@@ -0,0 +1,46 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.keys;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sequential key generator, starts from random offset so that threads do not walk the same keys.
+ */
+class SequentialKeyGenerator implements KeyGenerator {
+    /** */
+    private final int range;
+
+    /** */
+    private int cur;
+
+    /**
+     * @param range Key range.
+     */
+    SequentialKeyGenerator(int range) {
+        this.range = range;
+
+        cur = ThreadLocalRandom.current().nextInt(range);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int next() {
+        int key = cur;
+
+        cur = key + 1 == range ? 0 : key + 1;
+
+        return key;
+    }
+}
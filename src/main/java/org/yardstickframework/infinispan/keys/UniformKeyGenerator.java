@@ -0,0 +1,37 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.keys;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Uniform key generator.
+ */
+class UniformKeyGenerator implements KeyGenerator {
+    /** */
+    private final int range;
+
+    /**
+     * @param range Key range.
+     */
+    UniformKeyGenerator(int range) {
+        this.range = range;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int next() {
+        return ThreadLocalRandom.current().nextInt(range);
+    }
+}
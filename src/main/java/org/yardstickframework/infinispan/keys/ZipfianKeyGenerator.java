@@ -0,0 +1,84 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.keys;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Zipfian key generator, based on the algorithm from "Quickly Generating Billion-Record Synthetic
+ * Databases" by Gray et al. Key {@code 0} is the most popular one.
+ */
+class ZipfianKeyGenerator implements KeyGenerator {
+    /** */
+    private final int range;
+
+    /** */
+    private final double theta;
+
+    /** */
+    private final double zetan;
+
+    /** */
+    private final double alpha;
+
+    /** */
+    private final double eta;
+
+    /**
+     * @param range Key range.
+     * @param theta Skew, must be in {@code (0, 1)}.
+     * @param zetan Precomputed {@code zeta(range, theta)}, see {@link #zeta(int, double)}.
+     */
+    ZipfianKeyGenerator(int range, double theta, double zetan) {
+        this.range = range;
+        this.theta = theta;
+        this.zetan = zetan;
+
+        alpha = 1.0 / (1.0 - theta);
+        eta = (1 - Math.pow(2.0 / range, 1 - theta)) / (1 - zeta(2, theta) / zetan);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int next() {
+        double u = ThreadLocalRandom.current().nextDouble();
+
+        double uz = u * zetan;
+
+        if (uz < 1.0)
+            return 0;
+
+        if (uz < 1.0 + Math.pow(0.5, theta))
+            return Math.min(1, range - 1);
+
+        return Math.min((int)(range * Math.pow(eta * u - eta + 1, alpha)), range - 1);
+    }
+
+    /**
+     * Computes zeta constant, which is linear in range, so it should be computed once and shared
+     * between generators of all threads.
+     *
+     * @param range Key range.
+     * @param theta Skew.
+     * @return Zeta constant.
+     */
+    static double zeta(int range, double theta) {
+        double sum = 0;
+
+        for (int i = 1; i <= range; i++)
+            sum += 1 / Math.pow(i, theta);
+
+        return sum;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.model;
+
+import org.hibernate.search.annotations.Analyze;
+import org.hibernate.search.annotations.Field;
+import org.hibernate.search.annotations.Indexed;
+import org.hibernate.search.annotations.Store;
+
+/**
+ * Person record with analyzed name fields used for full-text query test.
+ */
+@Indexed
+public class IndexedPerson extends Person {
+    /**
+     * Constructs empty person.
+     */
+    public IndexedPerson() {
+        // No-op.
+    }
+
+    /**
+     * @param id Person ID.
+     * @param orgId Organization ID.
+     * @param firstName First name.
+     * @param lastName Last name.
+     * @param salary Salary.
+     */
+    public IndexedPerson(int id, int orgId, String firstName, String lastName, double salary) {
+        super(id, orgId, firstName, lastName, salary);
+    }
+
+    /** {@inheritDoc} */
+    @Field(store = Store.NO, analyze = Analyze.YES)
+    @Override public String getFirstName() {
+        return super.getFirstName();
+    }
+
+    /** {@inheritDoc} */
+    @Field(store = Store.NO, analyze = Analyze.YES)
+    @Override public String getLastName() {
+        return super.getLastName();
+    }
+
+    /**
+     * @return First and last names separated by space, used for phrase queries.
+     */
+    @Field(store = Store.NO, analyze = Analyze.YES)
+    public String getFullName() {
+        return getFirstName() + ' ' + getLastName();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.model;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * Organization record used for multi-entity transaction test.
+ */
+public class Organization implements Externalizable {
+    /** Organization ID. */
+    private int id;
+
+    /** Organization name. */
+    private String name;
+
+    /** Total salary budget of organization persons. */
+    private double budget;
+
+    /**
+     * Constructs empty organization.
+     */
+    public Organization() {
+        // No-op.
+    }
+
+    /**
+     * @param id Organization ID.
+     * @param name Organization name.
+     * @param budget Budget.
+     */
+    public Organization(int id, String name, double budget) {
+        this.id = id;
+        this.name = name;
+        this.budget = budget;
+    }
+
+    /**
+     * @return Organization id.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * @param id Organization id.
+     */
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    /**
+     * @return Organization name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param name Organization name.
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return Budget.
+     */
+    public double getBudget() {
+        return budget;
+    }
+
+    /**
+     * @param budget Budget.
+     */
+    public void setBudget(double budget) {
+        this.budget = budget;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeInt(id);
+        out.writeUTF(name);
+        out.writeDouble(budget);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        id = in.readInt();
+        name = in.readUTF();
+        budget = in.readDouble();
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean equals(Object o) {
+        return this == o || (o instanceof Organization) && id == ((Organization)o).id;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int hashCode() {
+        return id;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return getClass().getSimpleName() + " [id=" + id +
+            ", name=" + name +
+            ", budget=" + budget +
+            ']';
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.model;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * Sample value with payload used to control value size. Values without payload are plain
+ * {@link SampleValue} instances, so that their wire format does not depend on {@code -vs} option.
+ */
+public class PayloadValue extends SampleValue {
+    /** */
+    private byte[] payload;
+
+    /** */
+    public PayloadValue() {
+        // No-op.
+    }
+
+    /**
+     * @param id Id.
+     * @param payload Payload.
+     */
+    public PayloadValue(int id, byte[] payload) {
+        super(id);
+
+        this.payload = payload;
+    }
+
+    /**
+     * @return Payload.
+     */
+    public byte[] payload() {
+        return payload;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        super.readExternal(in);
+
+        payload = new byte[in.readInt()];
+
+        in.readFully(payload);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void writeExternal(ObjectOutput out) throws IOException {
+        super.writeExternal(out);
+
+        out.writeInt(payload.length);
+        out.write(payload);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return "Value [id=" + id() + ", payloadSize=" + payload.length + ']';
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.model;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Set;
+import org.infinispan.commons.marshall.AdvancedExternalizer;
+
+/**
+ * Externalizer of {@link Person} registered with fixed id. Names are written as length-prefixed UTF-8
+ * instead of modified UTF-8 of {@link ObjectOutput#writeUTF(String)}. Subclasses of {@link Person} are
+ * not handled and are still marshalled as {@link java.io.Externalizable}.
+ */
+public class PersonExternalizer implements AdvancedExternalizer<Person> {
+    /** Externalizer id, out of ranges reserved by Infinispan modules. */
+    public static final int ID = 17001;
+
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** {@inheritDoc} */
+    @Override public Set<Class<? extends Person>> getTypeClasses() {
+        return Collections.<Class<? extends Person>>singleton(Person.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Integer getId() {
+        return ID;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void writeObject(ObjectOutput out, Person p) throws IOException {
+        out.writeInt(p.getId());
+        out.writeInt(p.getOrganizationId());
+        writeString(out, p.getFirstName());
+        writeString(out, p.getLastName());
+        out.writeDouble(p.getSalary());
+    }
+
+    /** {@inheritDoc} */
+    @Override public Person readObject(ObjectInput in) throws IOException, ClassNotFoundException {
+        int id = in.readInt();
+        int orgId = in.readInt();
+        String firstName = readString(in);
+        String lastName = readString(in);
+        double salary = in.readDouble();
+
+        return new Person(id, orgId, firstName, lastName, salary);
+    }
+
+    /**
+     * @param out Output.
+     * @param s String, may be {@code null}.
+     * @throws IOException If failed.
+     */
+    private static void writeString(ObjectOutput out, String s) throws IOException {
+        if (s == null)
+            out.writeInt(-1);
+        else {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * @param in Input.
+     * @return String, may be {@code null}.
+     * @throws IOException If failed.
+     */
+    private static String readString(ObjectInput in) throws IOException {
+        int len = in.readInt();
+
+        if (len < 0)
+            return null;
+
+        byte[] bytes = new byte[len];
+
+        in.readFully(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.model;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collections;
+import java.util.Set;
+import org.infinispan.commons.marshall.AdvancedExternalizer;
+
+/**
+ * Externalizer of {@link SampleValue} registered with fixed id, so that neither class descriptor
+ * nor {@link java.io.Externalizable} handling is written to the stream.
+ */
+public class SampleValueExternalizer implements AdvancedExternalizer<SampleValue> {
+    /** Externalizer id, out of ranges reserved by Infinispan modules. */
+    public static final int ID = 17000;
+
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** {@inheritDoc} */
+    @Override public Set<Class<? extends SampleValue>> getTypeClasses() {
+        return Collections.<Class<? extends SampleValue>>singleton(SampleValue.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Integer getId() {
+        return ID;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void writeObject(ObjectOutput out, SampleValue val) throws IOException {
+        out.writeInt(val.id());
+    }
+
+    /** {@inheritDoc} */
+    @Override public SampleValue readObject(ObjectInput in) throws IOException, ClassNotFoundException {
+        return new SampleValue(in.readInt());
+    }
+}
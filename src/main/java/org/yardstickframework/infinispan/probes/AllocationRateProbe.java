@@ -0,0 +1,115 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.probes;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.BenchmarkDriver;
+import org.yardstickframework.BenchmarkProbe;
+import org.yardstickframework.BenchmarkProbePoint;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Probe that reports heap allocation rate of the driver JVM in megabytes per second. Allocation is summed
+ * over live threads, so bytes allocated by threads which finished during interval are not counted.
+ */
+public class AllocationRateProbe implements BenchmarkProbe {
+    /** */
+    private com.sun.management.ThreadMXBean threadBean;
+
+    /** Allocated bytes at previous point. */
+    private long lastBytes;
+
+    /** Time of previous point. */
+    private long lastTime;
+
+    /** Collected points. */
+    private Collection<BenchmarkProbePoint> collected = new ArrayList<>();
+
+    /** {@inheritDoc} */
+    @Override public void start(BenchmarkDriver drv, BenchmarkConfiguration cfg) throws Exception {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+        if (bean instanceof com.sun.management.ThreadMXBean &&
+            ((com.sun.management.ThreadMXBean)bean).isThreadAllocatedMemorySupported()) {
+            threadBean = (com.sun.management.ThreadMXBean)bean;
+
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+
+            lastBytes = allocatedBytes();
+            lastTime = System.currentTimeMillis();
+
+            println(cfg, getClass().getSimpleName() + " is started.");
+        }
+        else
+            println(cfg, "[WARNING] " + getClass().getSimpleName() + " is not supported by this JVM.");
+    }
+
+    /** {@inheritDoc} */
+    @Override public void stop() throws Exception {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public Collection<String> metaInfo() {
+        return Arrays.asList("\"Time, sec\"", "\"Allocation rate, MB/sec (less is better)\"");
+    }
+
+    /** {@inheritDoc} */
+    @Override public synchronized Collection<BenchmarkProbePoint> points() {
+        Collection<BenchmarkProbePoint> ret = collected;
+
+        collected = new ArrayList<>(ret.size() + 5);
+
+        return ret;
+    }
+
+    /** {@inheritDoc} */
+    @Override public synchronized void buildPoint(long time) {
+        if (threadBean == null)
+            return;
+
+        long bytes = allocatedBytes();
+
+        long interval = Math.max(time - lastTime, 1);
+
+        // Sum can decrease if allocating threads finished.
+        double rate = Math.max(bytes - lastBytes, 0) / (1024.0 * 1024.0) * 1000 / interval;
+
+        lastBytes = bytes;
+        lastTime = time;
+
+        collected.add(new BenchmarkProbePoint(TimeUnit.MILLISECONDS.toSeconds(time), new double[] {rate}));
+    }
+
+    /**
+     * @return Bytes allocated by live threads.
+     */
+    private long allocatedBytes() {
+        long sum = 0;
+
+        for (long bytes : threadBean.getThreadAllocatedBytes(threadBean.getAllThreadIds())) {
+            if (bytes > 0)
+                sum += bytes;
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.probes;
+
+/**
+ * Benchmark operation phase which latency is measured separately.
+ */
+public enum Phase {
+    /** Get. */
+    GET,
+
+    /** Put. */
+    PUT,
+
+    /** Transaction begin. */
+    BEGIN,
+
+    /** Transaction commit. */
+    COMMIT,
+
+    /** Query. */
+    QUERY,
+
+    /** Time from put until updated entry becomes visible to queries. */
+    STALENESS,
+
+    /** Time from put until listener is notified. */
+    EVENT,
+
+    /** Whole operation measured from its intended start time in fixed-rate mode. */
+    SCHEDULED
+}
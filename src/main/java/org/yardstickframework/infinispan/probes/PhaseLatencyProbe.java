@@ -0,0 +1,123 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.probes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.BenchmarkDriver;
+import org.yardstickframework.BenchmarkProbe;
+import org.yardstickframework.BenchmarkProbePoint;
+import org.yardstickframework.infinispan.InfinispanAbstractBenchmark;
+
+import static org.yardstickframework.BenchmarkUtils.println;
+
+/**
+ * Probe that reports p50, p99, p99.9 and max latency of every operation phase recorded by
+ * {@link PhaseLatencyRecorder} for every interval. Values are in microseconds, phases without
+ * operations in interval are reported as zeros.
+ */
+public class PhaseLatencyProbe implements BenchmarkProbe {
+    /** Reported percentiles. */
+    private static final double[] PERCENTILES = {50, 99, 99.9};
+
+    /** */
+    private PhaseLatencyRecorder recorder;
+
+    /** */
+    private final Histogram[] hists = new Histogram[Phase.values().length];
+
+    /** Collected points. */
+    private Collection<BenchmarkProbePoint> collected = new ArrayList<>();
+
+    /** {@inheritDoc} */
+    @Override public void start(BenchmarkDriver drv, BenchmarkConfiguration cfg) throws Exception {
+        if (drv instanceof InfinispanAbstractBenchmark) {
+            recorder = ((InfinispanAbstractBenchmark)drv).phaseLatencyRecorder();
+
+            recorder.enable();
+
+            println(cfg, getClass().getSimpleName() + " is started.");
+        }
+        else
+            println(cfg, "[WARNING] " + getClass().getSimpleName() + " supports only Infinispan benchmarks.");
+    }
+
+    /** {@inheritDoc} */
+    @Override public void stop() throws Exception {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public Collection<String> metaInfo() {
+        List<String> res = new ArrayList<>();
+
+        res.add("\"Time, sec\"");
+
+        for (Phase phase : Phase.values()) {
+            for (double p : PERCENTILES)
+                res.add("\"" + phase + " p" + p + " latency, usec (less is better)\"");
+
+            res.add("\"" + phase + " max latency, usec (less is better)\"");
+        }
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public synchronized Collection<BenchmarkProbePoint> points() {
+        Collection<BenchmarkProbePoint> ret = collected;
+
+        collected = new ArrayList<>(ret.size() + 5);
+
+        return ret;
+    }
+
+    /** {@inheritDoc} */
+    @Override public synchronized void buildPoint(long time) {
+        if (recorder == null)
+            return;
+
+        Phase[] phases = Phase.values();
+
+        double[] vals = new double[phases.length * (PERCENTILES.length + 1)];
+
+        int idx = 0;
+
+        for (Phase phase : phases) {
+            Histogram h = hists[phase.ordinal()] = recorder.intervalHistogram(phase, hists[phase.ordinal()]);
+
+            boolean empty = h.getTotalCount() == 0;
+
+            for (double p : PERCENTILES)
+                vals[idx++] = empty ? 0 : toMicros(h.getValueAtPercentile(p));
+
+            vals[idx++] = empty ? 0 : toMicros(h.getMaxValue());
+        }
+
+        collected.add(new BenchmarkProbePoint(TimeUnit.MILLISECONDS.toSeconds(time), vals));
+    }
+
+    /**
+     * @param nanos Nanoseconds.
+     * @return Microseconds.
+     */
+    private static double toMicros(long nanos) {
+        return nanos / 1000.0;
+    }
+}
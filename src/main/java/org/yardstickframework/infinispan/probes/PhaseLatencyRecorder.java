@@ -0,0 +1,121 @@
+/*
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+package org.yardstickframework.infinispan.probes;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.SingleWriterRecorder;
+
+/**
+ * Records latencies of benchmark operation phases into per-thread HdrHistogram recorders, one per phase,
+ * so driver threads do not contend on shared counts. Recording is wait-free for driver threads and disabled
+ * until {@link PhaseLatencyProbe} is attached, so drivers do not pay for timing when the probe is not used.
+ */
+public class PhaseLatencyRecorder {
+    /** Number of significant value digits. */
+    private static final int PRECISION = 3;
+
+    /** Recorders of all threads which recorded latencies. */
+    private final List<ThreadRecorders> all = new CopyOnWriteArrayList<>();
+
+    /** */
+    private final ThreadLocal<ThreadRecorders> local = new ThreadLocal<ThreadRecorders>() {
+        @Override protected ThreadRecorders initialValue() {
+            ThreadRecorders recs = new ThreadRecorders();
+
+            all.add(recs);
+
+            return recs;
+        }
+    };
+
+    /** */
+    private volatile boolean enabled;
+
+    /**
+     * Enables recording.
+     */
+    void enable() {
+        enabled = true;
+    }
+
+    /**
+     * @return Phase start time to be passed to {@link #record(Phase, long)}.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records latency of phase started at given time.
+     *
+     * @param phase Phase.
+     * @param start Phase start time returned by {@link #start()}.
+     * @return Phase end time, which can be used as start time of the next phase.
+     */
+    public long record(Phase phase, long start) {
+        if (!enabled || start == 0)
+            return 0;
+
+        long end = System.nanoTime();
+
+        local.get().recorders[phase.ordinal()].recordValue(end - start);
+
+        return end;
+    }
+
+    /**
+     * Merges latencies recorded by all threads since previous call. Should be called by a single thread.
+     *
+     * @param phase Phase.
+     * @param recycle Histogram returned by previous call for the same phase, or {@code null}.
+     * @return Histogram of latencies recorded since previous call.
+     */
+    Histogram intervalHistogram(Phase phase, Histogram recycle) {
+        Histogram res = recycle != null ? recycle : new Histogram(PRECISION);
+
+        res.reset();
+
+        int idx = phase.ordinal();
+
+        for (ThreadRecorders recs : all) {
+            Histogram h = recs.recorders[idx].getIntervalHistogram(recs.recycled[idx]);
+
+            recs.recycled[idx] = h;
+
+            res.add(h);
+        }
+
+        return res;
+    }
+
+    /**
+     * Recorders of a single thread.
+     */
+    private static class ThreadRecorders {
+        /** */
+        private final SingleWriterRecorder[] recorders = new SingleWriterRecorder[Phase.values().length];
+
+        /** Interval histograms returned by recorders, reused by the next merge. */
+        private final Histogram[] recycled = new Histogram[Phase.values().length];
+
+        /** */
+        ThreadRecorders() {
+            for (int i = 0; i < recorders.length; i++)
+                recorders[i] = new SingleWriterRecorder(PRECISION);
+        }
+    }
+}